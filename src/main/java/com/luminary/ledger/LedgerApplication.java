@@ -2,8 +2,11 @@ package com.luminary.ledger;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 
-@SpringBootApplication
+// R2DBC is wired by ReactiveReadConfig; its auto-configuration would replace the JDBC DataSource.
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
 public class LedgerApplication {
 
     public static void main(String[] args) {
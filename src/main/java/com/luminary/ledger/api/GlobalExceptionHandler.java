@@ -2,6 +2,8 @@ package com.luminary.ledger.api;
 
 import com.luminary.ledger.api.dto.ErrorResponse;
 import com.luminary.ledger.domain.exception.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -14,50 +16,92 @@ import java.util.List;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(AccountNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleAccountNotFound(AccountNotFoundException ex) {
+        countRejection(ex);
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(new ErrorResponse(404, ex.getMessage()));
     }
 
     @ExceptionHandler(TransactionNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleTransactionNotFound(TransactionNotFoundException ex) {
+        countRejection(ex);
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(new ErrorResponse(404, ex.getMessage()));
     }
 
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleImportJobNotFound(ImportJobNotFoundException ex) {
+        countRejection(ex);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse(404, ex.getMessage()));
+    }
+
+    @ExceptionHandler(ImportJobConflictException.class)
+    public ResponseEntity<ErrorResponse> handleImportJobConflict(ImportJobConflictException ex) {
+        countRejection(ex);
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse(409, ex.getMessage()));
+    }
+
     @ExceptionHandler(DuplicateAccountNameException.class)
     public ResponseEntity<ErrorResponse> handleDuplicateAccountName(DuplicateAccountNameException ex) {
+        countRejection(ex);
         return ResponseEntity.status(HttpStatus.CONFLICT)
                 .body(new ErrorResponse(409, ex.getMessage()));
     }
 
+    @ExceptionHandler(IdempotencyKeyReuseException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReuse(IdempotencyKeyReuseException ex) {
+        countRejection(ex);
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(new ErrorResponse(422, ex.getMessage()));
+    }
+
+    @ExceptionHandler(BalanceVersionMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleBalanceVersionMismatch(BalanceVersionMismatchException ex) {
+        countRejection(ex);
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .body(new ErrorResponse(412, ex.getMessage()));
+    }
+
     @ExceptionHandler(UnbalancedTransactionException.class)
     public ResponseEntity<ErrorResponse> handleUnbalancedTransaction(UnbalancedTransactionException ex) {
+        countRejection(ex);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(new ErrorResponse(400, ex.getMessage()));
     }
 
     @ExceptionHandler(InsufficientEntriesException.class)
     public ResponseEntity<ErrorResponse> handleInsufficientEntries(InsufficientEntriesException ex) {
+        countRejection(ex);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(new ErrorResponse(400, ex.getMessage()));
     }
 
     @ExceptionHandler(InvalidEntryException.class)
     public ResponseEntity<ErrorResponse> handleInvalidEntry(InvalidEntryException ex) {
+        countRejection(ex);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(new ErrorResponse(400, ex.getMessage()));
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
+        countRejection(ex);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(new ErrorResponse(400, ex.getMessage()));
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException ex) {
+        countRejection(ex);
         List<String> errors = ex.getBindingResult().getFieldErrors().stream()
                 .map(error -> error.getField() + ": " + error.getDefaultMessage())
                 .toList();
@@ -67,7 +111,17 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        countRejection(ex);
         return ResponseEntity.status(HttpStatus.CONFLICT)
                 .body(new ErrorResponse(409, "Resource already exists"));
     }
+
+    // Handled exceptions never reach http.server.requests' exception tag, so rejections are counted here.
+    private void countRejection(Exception ex) {
+        Counter.builder("ledger.requests.rejected")
+                .description("Requests rejected by validation or domain rules")
+                .tag("exception", ex.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
 }
@@ -0,0 +1,64 @@
+package com.luminary.ledger.api;
+
+import com.luminary.ledger.persistence.tracking.QueryStats;
+import com.luminary.ledger.persistence.tracking.QueryTracker;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+@Component
+@ConditionalOnProperty(prefix = "ledger.query-budget", name = "enabled", havingValue = "true")
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATS_ATTRIBUTE = QueryBudgetFilter.class.getName() + ".stats";
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    private final int maxStatements;
+    private final Duration maxDbTime;
+
+    public QueryBudgetFilter(@Value("${ledger.query-budget.max-statements:20}") int maxStatements,
+                             @Value("${ledger.query-budget.max-db-time:200ms}") Duration maxDbTime) {
+        this.maxStatements = maxStatements;
+        this.maxDbTime = maxDbTime;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryTracker.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryStats stats = QueryTracker.stop();
+            request.setAttribute(STATS_ATTRIBUTE, stats);
+            if (stats.statements() > maxStatements || stats.dbTime().compareTo(maxDbTime) > 0) {
+                log.warn("{} {} ran {} SQL statement(s) in {} ms, over the budget of {} statement(s) / {} ms:{}",
+                        request.getMethod(), request.getRequestURI(), stats.statements(),
+                        stats.dbTime().toMillis(), maxStatements, maxDbTime.toMillis(), listing(stats));
+            }
+        }
+    }
+
+    private static String listing(QueryStats stats) {
+        StringBuilder listing = new StringBuilder();
+        for (int i = 0; i < stats.sql().size(); i++) {
+            listing.append(System.lineSeparator()).append("  ").append(i + 1).append(": ").append(stats.sql().get(i));
+        }
+        if (stats.statements() > stats.sql().size()) {
+            listing.append(System.lineSeparator()).append("  ... ")
+                    .append(stats.statements() - stats.sql().size()).append(" more");
+        }
+        return listing.toString();
+    }
+}
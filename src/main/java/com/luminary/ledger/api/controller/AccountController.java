@@ -2,29 +2,42 @@ package com.luminary.ledger.api.controller;
 
 import com.luminary.ledger.api.dto.AccountResponse;
 import com.luminary.ledger.api.dto.CreateAccountRequest;
+import com.luminary.ledger.api.dto.CursorPageResponse;
 import com.luminary.ledger.api.dto.TransactionResponse;
+import com.luminary.ledger.api.dto.UpdateBalanceShardsRequest;
 import com.luminary.ledger.api.mapper.AccountDtoMapper;
 import com.luminary.ledger.api.mapper.TransactionDtoMapper;
 import com.luminary.ledger.domain.enums.AccountType;
 import com.luminary.ledger.domain.model.Account;
+import com.luminary.ledger.domain.model.Transaction;
 import com.luminary.ledger.domain.vo.AccountName;
+import com.luminary.ledger.domain.vo.TransactionCursor;
 import com.luminary.ledger.service.AccountService;
 import com.luminary.ledger.service.BalanceCalculator;
+import com.luminary.ledger.service.BalanceCalculator.VersionedBalance;
 import com.luminary.ledger.service.TransactionService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/accounts")
 public class AccountController {
 
+    static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final AccountService accountService;
     private final BalanceCalculator balanceCalculator;
     private final TransactionService transactionService;
@@ -51,26 +64,57 @@ public class AccountController {
         } catch (IllegalArgumentException ex) {
             throw new IllegalArgumentException("Invalid account type: " + request.type());
         }
-        Account account = accountService.createAccount(AccountName.of(request.name()), type);
-        BigDecimal balance = balanceCalculator.calculateBalance(account.getId(), account.getType());
-        return ResponseEntity.status(HttpStatus.CREATED).body(accountDtoMapper.toResponse(account, balance));
+        int balanceShards = request.balanceShards() == null ? 1 : request.balanceShards();
+        Account account = accountService.createAccount(AccountName.of(request.name()), type, balanceShards);
+        VersionedBalance balance = balanceCalculator.calculateVersionedBalance(account.getId(), account.getType());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(balance.version().toETag())
+                .body(accountDtoMapper.toResponse(account, balance.balance()));
     }
 
     @GetMapping
     public ResponseEntity<Page<AccountResponse>> getAllAccounts(@PageableDefault(size = 20) Pageable pageable) {
-        Page<AccountResponse> page = accountService.listAccounts(pageable)
-                .map(account -> {
-                    BigDecimal balance = balanceCalculator.calculateBalance(account.getId(), account.getType());
-                    return accountDtoMapper.toResponse(account, balance);
-                });
+        Page<Account> accounts = accountService.listAccounts(pageable);
+        Map<Long, BigDecimal> balances = balanceCalculator.calculateBalances(accounts.getContent());
+        Page<AccountResponse> page = accounts
+                .map(account -> accountDtoMapper.toResponse(account, balances.get(account.getId())));
         return ResponseEntity.ok(page);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<AccountResponse> getAccount(@PathVariable Long id) {
+    public ResponseEntity<AccountResponse> getAccount(
+            @PathVariable Long id,
+            @RequestParam(name = "as_of", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf,
+            WebRequest webRequest) {
         Account account = accountService.getAccount(id);
-        BigDecimal balance = balanceCalculator.calculateBalance(id, account.getType());
-        return ResponseEntity.ok(accountDtoMapper.toResponse(account, balance));
+        if (asOf != null) {
+            BigDecimal balance = balanceCalculator.calculateBalanceAsOf(id, account.getType(), asOf);
+            return ResponseEntity.ok(accountDtoMapper.toResponse(account, balance));
+        }
+        // The ETag names the balance version; pass it in If-Match to post only against this balance. Plain reads are
+        // served from the balance cache; a revalidation compares versions, so it reads the balance row.
+        VersionedBalance balance = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) == null
+                ? balanceCalculator.calculateVersionedBalance(id, account.getType())
+                : balanceCalculator.calculateCurrentVersionedBalance(id, account.getType());
+        String eTag = balance.version().toETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(accountDtoMapper.toResponse(account, balance.balance()));
+    }
+
+    // Spreads a hot account's balance over more shard rows; the shard count can only grow.
+    @PutMapping("/{id}/balance-shards")
+    public ResponseEntity<AccountResponse> updateBalanceShards(@PathVariable Long id,
+                                                               @Valid @RequestBody UpdateBalanceShardsRequest request) {
+        Account account = accountService.increaseBalanceShards(id, request.balanceShards());
+        VersionedBalance balance = balanceCalculator.calculateVersionedBalance(account.getId(), account.getType());
+        return ResponseEntity.ok()
+                .eTag(balance.version().toETag())
+                .body(accountDtoMapper.toResponse(account, balance.balance()));
     }
 
     @GetMapping("/{id}/transactions")
@@ -81,4 +125,17 @@ public class AccountController {
                 .map(transactionDtoMapper::toResponse);
         return ResponseEntity.ok(transactions);
     }
+
+    @GetMapping(value = "/{id}/transactions", params = "cursor")
+    public ResponseEntity<CursorPageResponse<TransactionResponse>> getAccountTransactionsByCursor(
+            @PathVariable Long id,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        TransactionCursor after = cursor.isEmpty() ? null : TransactionCursor.decode(cursor);
+        Slice<Transaction> slice = transactionService.getTransactionsByAccountId(id, after, size);
+        return ResponseEntity.ok(transactionDtoMapper.toCursorPage(slice, size));
+    }
 }
@@ -0,0 +1,68 @@
+package com.luminary.ledger.api.controller;
+
+import com.luminary.ledger.api.dto.ImportJobResponse;
+import com.luminary.ledger.api.importer.TransactionRecordSourceFactory;
+import com.luminary.ledger.api.mapper.ImportJobDtoMapper;
+import com.luminary.ledger.domain.enums.ImportFormat;
+import com.luminary.ledger.domain.enums.ImportStatus;
+import com.luminary.ledger.domain.model.ImportJob;
+import com.luminary.ledger.service.TransactionImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/imports")
+public class ImportController {
+
+    private final TransactionImportService importService;
+    private final TransactionRecordSourceFactory sourceFactory;
+    private final ImportJobDtoMapper importJobDtoMapper;
+
+    public ImportController(TransactionImportService importService,
+                            TransactionRecordSourceFactory sourceFactory,
+                            ImportJobDtoMapper importJobDtoMapper) {
+        this.importService = importService;
+        this.sourceFactory = sourceFactory;
+        this.importJobDtoMapper = importJobDtoMapper;
+    }
+
+    @PostMapping
+    public ResponseEntity<ImportJobResponse> startImport(@RequestParam String format,
+                                                         HttpServletRequest request) throws IOException {
+        ImportFormat importFormat = parseFormat(format);
+        ImportJob job = importService.startImport(importFormat,
+                sourceFactory.open(importFormat, request.getInputStream()));
+        return toResponse(job, HttpStatus.CREATED);
+    }
+
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<ImportJobResponse> resumeImport(@PathVariable Long id,
+                                                          HttpServletRequest request) throws IOException {
+        ImportJob existing = importService.getImportJob(id);
+        ImportJob job = importService.resumeImport(id,
+                sourceFactory.open(existing.getFormat(), request.getInputStream()));
+        return toResponse(job, HttpStatus.OK);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJobResponse> getImport(@PathVariable Long id) {
+        return ResponseEntity.ok(importJobDtoMapper.toResponse(importService.getImportJob(id)));
+    }
+
+    private ResponseEntity<ImportJobResponse> toResponse(ImportJob job, HttpStatus successStatus) {
+        HttpStatus status = job.getStatus() == ImportStatus.COMPLETED ? successStatus : HttpStatus.UNPROCESSABLE_ENTITY;
+        return ResponseEntity.status(status).body(importJobDtoMapper.toResponse(job));
+    }
+
+    private ImportFormat parseFormat(String format) {
+        try {
+            return ImportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid import format: " + format);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.luminary.ledger.api.controller;
+
+import com.luminary.ledger.api.dto.AccountResponse;
+import com.luminary.ledger.api.dto.CursorPageResponse;
+import com.luminary.ledger.api.dto.TransactionResponse;
+import com.luminary.ledger.api.mapper.AccountDtoMapper;
+import com.luminary.ledger.api.mapper.TransactionDtoMapper;
+import com.luminary.ledger.domain.vo.TransactionCursor;
+import com.luminary.ledger.service.ReactiveLedgerQueryService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/reactive/accounts")
+@ConditionalOnProperty(prefix = "ledger.reactive", name = "enabled", havingValue = "true")
+public class ReactiveAccountController {
+
+    private final ReactiveLedgerQueryService queryService;
+    private final AccountDtoMapper accountDtoMapper;
+    private final TransactionDtoMapper transactionDtoMapper;
+
+    public ReactiveAccountController(ReactiveLedgerQueryService queryService,
+                                     AccountDtoMapper accountDtoMapper,
+                                     TransactionDtoMapper transactionDtoMapper) {
+        this.queryService = queryService;
+        this.accountDtoMapper = accountDtoMapper;
+        this.transactionDtoMapper = transactionDtoMapper;
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<AccountResponse>> getAccount(@PathVariable Long id) {
+        return queryService.getAccount(id)
+                .flatMap(account -> queryService.getBalance(account)
+                        .map(balance -> ResponseEntity.ok(accountDtoMapper.toResponse(account, balance))));
+    }
+
+    @GetMapping("/{id}/transactions")
+    public Mono<ResponseEntity<CursorPageResponse<TransactionResponse>>> getAccountTransactions(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > AccountController.MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + AccountController.MAX_CURSOR_PAGE_SIZE);
+        }
+        TransactionCursor after = cursor.isEmpty() ? null : TransactionCursor.decode(cursor);
+        return queryService.getTransactionsByAccountId(id, after, size)
+                .map(slice -> ResponseEntity.ok(transactionDtoMapper.toCursorPage(slice, size)));
+    }
+}
@@ -1,15 +1,17 @@
 package com.luminary.ledger.api.controller;
 
+import com.luminary.ledger.api.dto.CreateTransactionBatchRequest;
 import com.luminary.ledger.api.dto.CreateTransactionRequest;
-import com.luminary.ledger.api.dto.TransactionEntryRequest;
 import com.luminary.ledger.api.dto.TransactionResponse;
 import com.luminary.ledger.api.mapper.TransactionDtoMapper;
-import com.luminary.ledger.domain.enums.EntryType;
 import com.luminary.ledger.domain.model.Transaction;
-import com.luminary.ledger.domain.model.TransactionEntry;
-import com.luminary.ledger.domain.vo.Money;
+import com.luminary.ledger.domain.vo.BalanceVersion;
+import com.luminary.ledger.domain.vo.IdempotencyKey;
+import com.luminary.ledger.service.IdempotencyService;
+import com.luminary.ledger.service.IdempotencyService.IdempotentResult;
 import com.luminary.ledger.service.TransactionService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,27 +22,57 @@ import java.util.List;
 @RequestMapping("/api/transactions")
 public class TransactionController {
 
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
     private final TransactionService transactionService;
+    private final IdempotencyService idempotencyService;
     private final TransactionDtoMapper transactionDtoMapper;
 
     public TransactionController(TransactionService transactionService,
+                                 IdempotencyService idempotencyService,
                                  TransactionDtoMapper transactionDtoMapper) {
         this.transactionService = transactionService;
+        this.idempotencyService = idempotencyService;
         this.transactionDtoMapper = transactionDtoMapper;
     }
 
     @PostMapping
     public ResponseEntity<TransactionResponse> createTransaction(
+            @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) List<String> ifMatch,
             @Valid @RequestBody CreateTransactionRequest request) {
 
-        List<TransactionEntry> entries = request.entries().stream()
-                .map(this::toTransactionEntry)
+        List<BalanceVersion> expectedVersions = expectedVersions(ifMatch);
+        if (idempotencyKey != null) {
+            IdempotencyKey key = IdempotencyKey.of(idempotencyKey, transactionDtoMapper.requestHash(request));
+            IdempotentResult result = idempotencyService.createTransaction(key, expectedVersions,
+                    () -> transactionDtoMapper.toDomain(request));
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .header(IDEMPOTENT_REPLAYED, String.valueOf(result.replayed()))
+                    .body(transactionDtoMapper.toResponse(result.transaction()));
+        }
+        Transaction saved = transactionService.createTransaction(
+                transactionDtoMapper.toDomain(request), null, expectedVersions);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(transactionDtoMapper.toResponse(saved));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<TransactionResponse>> createTransactions(
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) List<String> ifMatch,
+            @Valid @RequestBody CreateTransactionBatchRequest request) {
+
+        List<Transaction> transactions = request.transactions().stream()
+                .map(transactionDtoMapper::toDomain)
                 .toList();
 
-        Transaction transaction = Transaction.create(request.description(), request.date(), entries);
-        Transaction saved = transactionService.createTransaction(transaction);
+        List<TransactionResponse> saved = transactionService.createTransactions(transactions, expectedVersions(ifMatch))
+                .stream()
+                .map(transactionDtoMapper::toResponse)
+                .toList();
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(transactionDtoMapper.toResponse(saved));
+        return ResponseEntity.status(HttpStatus.CREATED).body(saved);
     }
 
     @GetMapping("/{id}")
@@ -49,8 +81,14 @@ public class TransactionController {
         return ResponseEntity.ok(transactionDtoMapper.toResponse(transaction));
     }
 
-    private TransactionEntry toTransactionEntry(TransactionEntryRequest request) {
-        EntryType entryType = EntryType.valueOf(request.type().toUpperCase());
-        return TransactionEntry.create(request.accountId(), entryType, Money.of(request.amount()));
+    // If-Match carries the ETags of GET /api/accounts/{id}; "*" adds nothing because the accounts must exist anyway.
+    private static List<BalanceVersion> expectedVersions(List<String> ifMatch) {
+        if (ifMatch == null) {
+            return List.of();
+        }
+        return ifMatch.stream()
+                .filter(tag -> !tag.isBlank() && !tag.trim().equals("*"))
+                .map(BalanceVersion::fromETag)
+                .toList();
     }
 }
@@ -8,6 +8,7 @@ public record AccountResponse(
         String name,
         String type,
         BigDecimal balance,
+        int balanceShards,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
@@ -1,5 +1,7 @@
 package com.luminary.ledger.api.dto;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -10,6 +12,10 @@ public record CreateAccountRequest(
         String name,
 
         @NotNull(message = "Account type is required")
-        String type
+        String type,
+
+        @Min(value = 1, message = "Balance shards must be at least 1")
+        @Max(value = 64, message = "Balance shards must not exceed 64")
+        Integer balanceShards
 ) {
 }
@@ -0,0 +1,15 @@
+package com.luminary.ledger.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CreateTransactionBatchRequest(
+        @NotEmpty(message = "Transactions are required")
+        @Size(max = 1000, message = "A batch must not exceed 1000 transactions")
+        List<@NotNull @Valid CreateTransactionRequest> transactions
+) {
+}
@@ -0,0 +1,11 @@
+package com.luminary.ledger.api.dto;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
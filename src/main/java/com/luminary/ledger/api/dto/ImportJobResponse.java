@@ -0,0 +1,15 @@
+package com.luminary.ledger.api.dto;
+
+import java.time.LocalDateTime;
+
+public record ImportJobResponse(
+        Long id,
+        String format,
+        String status,
+        long committedOffset,
+        long importedTransactions,
+        String failureReason,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,13 @@
+package com.luminary.ledger.api.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record UpdateBalanceShardsRequest(
+        @NotNull(message = "Balance shards is required")
+        @Min(value = 1, message = "Balance shards must be at least 1")
+        @Max(value = 64, message = "Balance shards must not exceed 64")
+        Integer balanceShards
+) {
+}
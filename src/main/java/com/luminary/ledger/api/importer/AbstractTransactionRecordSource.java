@@ -0,0 +1,69 @@
+package com.luminary.ledger.api.importer;
+
+import com.luminary.ledger.api.dto.CreateTransactionRequest;
+import com.luminary.ledger.api.mapper.TransactionDtoMapper;
+import com.luminary.ledger.domain.exception.InvalidImportRecordException;
+import com.luminary.ledger.service.TransactionRecordSource;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+abstract class AbstractTransactionRecordSource implements TransactionRecordSource {
+
+    private final BufferedReader reader;
+    private final Validator validator;
+    private final TransactionDtoMapper transactionDtoMapper;
+    private long lineNumber;
+
+    AbstractTransactionRecordSource(BufferedReader reader,
+                                    Validator validator,
+                                    TransactionDtoMapper transactionDtoMapper) {
+        this.reader = reader;
+        this.validator = validator;
+        this.transactionDtoMapper = transactionDtoMapper;
+    }
+
+    @Override
+    public void skip(long offset) throws IOException {
+        while (lineNumber < offset && readLine() != null) {
+            // skipping lines already committed by a previous run
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    protected String readLine() throws IOException {
+        String line = reader.readLine();
+        if (line != null) {
+            lineNumber++;
+        }
+        return line;
+    }
+
+    protected long lineNumber() {
+        return lineNumber;
+    }
+
+    protected TransactionRecordSource.ImportRecord toRecord(CreateTransactionRequest request, long endOffset) {
+        Set<ConstraintViolation<CreateTransactionRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String errors = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            throw new InvalidImportRecordException(endOffset, errors);
+        }
+        try {
+            return new TransactionRecordSource.ImportRecord(transactionDtoMapper.toDomain(request), endOffset);
+        } catch (RuntimeException ex) {
+            throw new InvalidImportRecordException(endOffset, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.luminary.ledger.api.importer;
+
+import com.luminary.ledger.api.dto.CreateTransactionRequest;
+import com.luminary.ledger.api.dto.TransactionEntryRequest;
+import com.luminary.ledger.api.mapper.TransactionDtoMapper;
+import com.luminary.ledger.domain.exception.InvalidImportRecordException;
+import com.luminary.ledger.service.TransactionRecordSource;
+import jakarta.validation.Validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads one journal line per CSV row. Consecutive rows sharing a transaction reference form one
+ * transaction; the description and date are taken from the first row of each group. A quoted field may span
+ * lines; import offsets still count physical lines, so a resume skips whole rows.
+ */
+class CsvTransactionRecordSource extends AbstractTransactionRecordSource {
+
+    static final String HEADER = "transaction_ref,description,date,account_id,type,amount";
+
+    private static final int COLUMNS = 6;
+
+    private String[] pending;
+    private long pendingLine;
+
+    CsvTransactionRecordSource(BufferedReader reader,
+                               Validator validator,
+                               TransactionDtoMapper transactionDtoMapper) {
+        super(reader, validator, transactionDtoMapper);
+    }
+
+    @Override
+    public TransactionRecordSource.ImportRecord next() throws IOException {
+        String[] first = pending != null ? pending : readRow();
+        if (first == null) {
+            return null;
+        }
+        long firstLine = pending != null ? pendingLine : lineNumber();
+        pending = null;
+
+        List<TransactionEntryRequest> entries = new ArrayList<>();
+        entries.add(toEntry(first, firstLine));
+        long endOffset = firstLine;
+
+        String[] row;
+        while ((row = readRow()) != null) {
+            if (!row[0].equals(first[0])) {
+                pending = row;
+                pendingLine = lineNumber();
+                break;
+            }
+            entries.add(toEntry(row, lineNumber()));
+            endOffset = lineNumber();
+        }
+
+        CreateTransactionRequest request = new CreateTransactionRequest(
+                emptyToNull(first[1]), parseDate(first[2], firstLine), entries);
+        return toRecord(request, endOffset);
+    }
+
+    private String[] readRow() throws IOException {
+        String line;
+        while ((line = readLine()) != null) {
+            if (lineNumber() == 1 && line.strip().equalsIgnoreCase(HEADER)) {
+                continue;
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            // An odd number of quotes leaves a field open ("" escapes count twice), so the row goes on.
+            StringBuilder row = new StringBuilder(line);
+            long quotes = quotes(line);
+            while (quotes % 2 != 0) {
+                String next = readLine();
+                if (next == null) {
+                    throw new InvalidImportRecordException(lineNumber(), "unterminated quoted field");
+                }
+                row.append('\n').append(next);
+                quotes += quotes(next);
+            }
+            List<String> fields = split(row.toString());
+            if (fields.size() != COLUMNS) {
+                throw new InvalidImportRecordException(lineNumber(),
+                        "expected " + COLUMNS + " columns (" + HEADER + ") but found " + fields.size());
+            }
+            return fields.toArray(String[]::new);
+        }
+        return null;
+    }
+
+    private TransactionEntryRequest toEntry(String[] row, long line) {
+        try {
+            return new TransactionEntryRequest(
+                    row[3].isEmpty() ? null : Long.valueOf(row[3]),
+                    emptyToNull(row[4]),
+                    row[5].isEmpty() ? null : new BigDecimal(row[5]));
+        } catch (NumberFormatException ex) {
+            throw new InvalidImportRecordException(line, "invalid number: " + ex.getMessage());
+        }
+    }
+
+    private LocalDateTime parseDate(String value, long line) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new InvalidImportRecordException(line, "invalid date: " + value);
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static long quotes(String line) {
+        return line.chars().filter(c -> c == '"').count();
+    }
+
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>(COLUMNS);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().strip());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().strip());
+        return fields;
+    }
+}
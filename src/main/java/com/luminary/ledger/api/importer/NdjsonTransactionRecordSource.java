@@ -0,0 +1,43 @@
+package com.luminary.ledger.api.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luminary.ledger.api.dto.CreateTransactionRequest;
+import com.luminary.ledger.api.mapper.TransactionDtoMapper;
+import com.luminary.ledger.domain.exception.InvalidImportRecordException;
+import com.luminary.ledger.service.TransactionRecordSource;
+import jakarta.validation.Validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+class NdjsonTransactionRecordSource extends AbstractTransactionRecordSource {
+
+    private final ObjectMapper objectMapper;
+
+    NdjsonTransactionRecordSource(BufferedReader reader,
+                                  ObjectMapper objectMapper,
+                                  Validator validator,
+                                  TransactionDtoMapper transactionDtoMapper) {
+        super(reader, validator, transactionDtoMapper);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public TransactionRecordSource.ImportRecord next() throws IOException {
+        String line;
+        while ((line = readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            CreateTransactionRequest request;
+            try {
+                request = objectMapper.readValue(line, CreateTransactionRequest.class);
+            } catch (JsonProcessingException ex) {
+                throw new InvalidImportRecordException(lineNumber(), ex.getOriginalMessage());
+            }
+            return toRecord(request, lineNumber());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,37 @@
+package com.luminary.ledger.api.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luminary.ledger.api.mapper.TransactionDtoMapper;
+import com.luminary.ledger.domain.enums.ImportFormat;
+import com.luminary.ledger.service.TransactionRecordSource;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+@Component
+public class TransactionRecordSourceFactory {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionDtoMapper transactionDtoMapper;
+
+    public TransactionRecordSourceFactory(ObjectMapper objectMapper,
+                                          Validator validator,
+                                          TransactionDtoMapper transactionDtoMapper) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionDtoMapper = transactionDtoMapper;
+    }
+
+    public TransactionRecordSource open(ImportFormat format, InputStream input) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return switch (format) {
+            case NDJSON -> new NdjsonTransactionRecordSource(reader, objectMapper, validator, transactionDtoMapper);
+            case CSV -> new CsvTransactionRecordSource(reader, validator, transactionDtoMapper);
+        };
+    }
+}
@@ -15,6 +15,7 @@ public class AccountDtoMapper {
                 account.getName().value(),
                 account.getType().name(),
                 balance,
+                account.getBalanceShards(),
                 account.getCreatedAt(),
                 account.getUpdatedAt()
         );
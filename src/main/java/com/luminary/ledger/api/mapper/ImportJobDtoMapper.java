@@ -0,0 +1,22 @@
+package com.luminary.ledger.api.mapper;
+
+import com.luminary.ledger.api.dto.ImportJobResponse;
+import com.luminary.ledger.domain.model.ImportJob;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ImportJobDtoMapper {
+
+    public ImportJobResponse toResponse(ImportJob job) {
+        return new ImportJobResponse(
+                job.getId(),
+                job.getFormat().name(),
+                job.getStatus().name(),
+                job.getCommittedOffset(),
+                job.getImportedTransactions(),
+                job.getFailureReason(),
+                job.getCreatedAt(),
+                job.getUpdatedAt()
+        );
+    }
+}
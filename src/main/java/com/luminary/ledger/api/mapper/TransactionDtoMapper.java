@@ -1,14 +1,22 @@
 package com.luminary.ledger.api.mapper;
 
+import com.luminary.ledger.api.dto.CreateTransactionRequest;
+import com.luminary.ledger.api.dto.CursorPageResponse;
+import com.luminary.ledger.api.dto.TransactionEntryRequest;
 import com.luminary.ledger.api.dto.TransactionEntryResponse;
 import com.luminary.ledger.api.dto.TransactionResponse;
 import com.luminary.ledger.domain.enums.EntryType;
 import com.luminary.ledger.domain.model.Transaction;
 import com.luminary.ledger.domain.model.TransactionEntry;
 import com.luminary.ledger.domain.vo.Money;
+import com.luminary.ledger.domain.vo.TransactionCursor;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
 
 @Component
@@ -19,22 +27,59 @@ public class TransactionDtoMapper {
                 .map(this::toEntryResponse)
                 .toList();
 
-        BigDecimal totalAmount = transaction.getEntries().stream()
-                .filter(e -> e.getEntryType() == EntryType.DEBIT)
-                .map(TransactionEntry::getAmount)
-                .reduce(Money.ZERO, Money::add)
-                .value();
-
         return new TransactionResponse(
                 transaction.getId(),
                 transaction.getDescription(),
                 transaction.getDate(),
                 entries,
-                totalAmount,
+                transaction.getTotalDebits().value(),
                 transaction.getCreatedAt()
         );
     }
 
+    public CursorPageResponse<TransactionResponse> toCursorPage(Slice<Transaction> slice, int size) {
+        List<TransactionResponse> content = slice.getContent().stream()
+                .map(this::toResponse)
+                .toList();
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            Transaction last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextCursor = TransactionCursor.of(last.getDate(), last.getId()).encode();
+        }
+        return new CursorPageResponse<>(content, size, slice.hasNext(), nextCursor);
+    }
+
+    public Transaction toDomain(CreateTransactionRequest request) {
+        List<TransactionEntry> entries = request.entries().stream()
+                .map(this::toEntry)
+                .toList();
+        return Transaction.create(request.description(), request.date(), entries);
+    }
+
+    // Idempotency-Key replays compare this hash: the same posting sent again hashes the same even if its amounts
+    // are written with a different scale, while any change to the description, date or entries does not.
+    public String requestHash(CreateTransactionRequest request) {
+        StringBuilder canonical = new StringBuilder()
+                .append(request.description()).append('\n')
+                .append(request.date()).append('\n');
+        for (TransactionEntryRequest entry : request.entries()) {
+            canonical.append(entry.accountId()).append('|')
+                    .append(entry.type().toUpperCase()).append('|')
+                    .append(entry.amount().stripTrailingZeros().toPlainString()).append('\n');
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private TransactionEntry toEntry(TransactionEntryRequest request) {
+        EntryType entryType = EntryType.valueOf(request.type().toUpperCase());
+        return TransactionEntry.create(request.accountId(), entryType, Money.of(request.amount()));
+    }
+
     private TransactionEntryResponse toEntryResponse(TransactionEntry entry) {
         return new TransactionEntryResponse(
                 entry.getId(),
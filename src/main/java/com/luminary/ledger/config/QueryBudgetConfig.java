@@ -0,0 +1,23 @@
+package com.luminary.ledger.config;
+
+import com.luminary.ledger.persistence.tracking.TrackingSessionEventListener;
+import com.luminary.ledger.persistence.tracking.TrackingStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "ledger.query-budget", name = "enabled", havingValue = "true")
+public class QueryBudgetConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryTrackingCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new TrackingStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                    TrackingSessionEventListener.class.getName());
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.luminary.ledger.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "ledger.reactive", name = "enabled", havingValue = "true")
+public class ReactiveReadConfig implements DisposableBean {
+
+    private ConnectionPool connectionPool;
+
+    // The pool is deliberately not a bean: a ConnectionFactory bean switches off DataSource auto-configuration.
+    @Bean
+    public DatabaseClient readDatabaseClient(DataSourceProperties dataSourceProperties,
+                                             @Value("${ledger.reactive.pool.max-size:20}") int maxSize) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions
+                .parse(dataSourceProperties.determineUrl().replaceFirst("^jdbc:", "r2dbc:"))
+                .mutate();
+        if (dataSourceProperties.determineUsername() != null) {
+            options.option(ConnectionFactoryOptions.USER, dataSourceProperties.determineUsername());
+        }
+        if (dataSourceProperties.determinePassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, dataSourceProperties.determinePassword());
+        }
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options.build()))
+                .maxSize(maxSize)
+                .build());
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
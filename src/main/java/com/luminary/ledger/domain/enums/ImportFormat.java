@@ -0,0 +1,6 @@
+package com.luminary.ledger.domain.enums;
+
+public enum ImportFormat {
+    NDJSON,
+    CSV
+}
@@ -0,0 +1,7 @@
+package com.luminary.ledger.domain.enums;
+
+public enum ImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
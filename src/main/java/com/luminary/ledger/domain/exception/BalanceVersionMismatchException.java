@@ -0,0 +1,8 @@
+package com.luminary.ledger.domain.exception;
+
+public class BalanceVersionMismatchException extends RuntimeException {
+
+    public BalanceVersionMismatchException(Long accountId, long expectedVersion) {
+        super("Balance of account " + accountId + " is no longer at version " + expectedVersion);
+    }
+}
@@ -0,0 +1,8 @@
+package com.luminary.ledger.domain.exception;
+
+public class IdempotencyKeyReuseException extends RuntimeException {
+
+    public IdempotencyKeyReuseException(String key) {
+        super("Idempotency-Key " + key + " was already used with a different request");
+    }
+}
@@ -0,0 +1,8 @@
+package com.luminary.ledger.domain.exception;
+
+public class ImportJobConflictException extends RuntimeException {
+
+    public ImportJobConflictException(Long id) {
+        super("Import job " + id + " is already completed or currently running");
+    }
+}
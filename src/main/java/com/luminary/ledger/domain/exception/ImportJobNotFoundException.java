@@ -0,0 +1,8 @@
+package com.luminary.ledger.domain.exception;
+
+public class ImportJobNotFoundException extends RuntimeException {
+
+    public ImportJobNotFoundException(Long id) {
+        super("Import job not found with id: " + id);
+    }
+}
@@ -0,0 +1,8 @@
+package com.luminary.ledger.domain.exception;
+
+public class InvalidImportRecordException extends RuntimeException {
+
+    public InvalidImportRecordException(long line, String message) {
+        super("Invalid record at line " + line + ": " + message);
+    }
+}
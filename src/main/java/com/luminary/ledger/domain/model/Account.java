@@ -7,23 +7,39 @@ import java.time.LocalDateTime;
 
 public class Account {
 
+    public static final int MAX_BALANCE_SHARDS = 64;
+
     private final Long id;
     private final AccountName name;
     private final AccountType type;
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
+    private final int balanceShards;
 
     public Account(Long id, AccountName name, AccountType type, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, name, type, createdAt, updatedAt, 1);
+    }
+
+    public Account(Long id, AccountName name, AccountType type, LocalDateTime createdAt, LocalDateTime updatedAt,
+                   int balanceShards) {
+        if (balanceShards < 1 || balanceShards > MAX_BALANCE_SHARDS) {
+            throw new IllegalArgumentException("Balance shards must be between 1 and " + MAX_BALANCE_SHARDS);
+        }
         this.id = id;
         this.name = name;
         this.type = type;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.balanceShards = balanceShards;
     }
 
     public static Account create(AccountName name, AccountType type) {
+        return create(name, type, 1);
+    }
+
+    public static Account create(AccountName name, AccountType type, int balanceShards) {
         LocalDateTime now = LocalDateTime.now();
-        return new Account(null, name, type, now, now);
+        return new Account(null, name, type, now, now, balanceShards);
     }
 
     public Long getId() {
@@ -45,4 +61,12 @@ public class Account {
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
+
+    public int getBalanceShards() {
+        return balanceShards;
+    }
+
+    public boolean isBalanceSharded() {
+        return balanceShards > 1;
+    }
 }
@@ -0,0 +1,70 @@
+package com.luminary.ledger.domain.model;
+
+import com.luminary.ledger.domain.enums.ImportFormat;
+import com.luminary.ledger.domain.enums.ImportStatus;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public class ImportJob {
+
+    private final Long id;
+    private final ImportFormat format;
+    private final ImportStatus status;
+    private final long committedOffset;
+    private final long importedTransactions;
+    private final String failureReason;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public ImportJob(Long id, ImportFormat format, ImportStatus status, long committedOffset,
+                     long importedTransactions, String failureReason,
+                     LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.format = format;
+        this.status = status;
+        this.committedOffset = committedOffset;
+        this.importedTransactions = importedTransactions;
+        this.failureReason = failureReason;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Microseconds, as stored: the heartbeat must compare equal to the column after a round trip.
+    public static ImportJob start(ImportFormat format) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        return new ImportJob(null, format, ImportStatus.RUNNING, 0, 0, null, now, now);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public ImportFormat getFormat() {
+        return format;
+    }
+
+    public ImportStatus getStatus() {
+        return status;
+    }
+
+    public long getCommittedOffset() {
+        return committedOffset;
+    }
+
+    public long getImportedTransactions() {
+        return importedTransactions;
+    }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
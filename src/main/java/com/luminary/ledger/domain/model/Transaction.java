@@ -15,6 +15,8 @@ public class Transaction {
     private final LocalDateTime date;
     private final List<TransactionEntry> entries;
     private final LocalDateTime createdAt;
+    private final Money totalDebits;
+    private final Money totalCredits;
 
     public Transaction(Long id, String description, LocalDateTime date, List<TransactionEntry> entries, LocalDateTime createdAt) {
         this.id = id;
@@ -22,6 +24,19 @@ public class Transaction {
         this.date = date;
         this.entries = List.copyOf(entries);
         this.createdAt = createdAt;
+
+        long debits = 0;
+        long credits = 0;
+        for (int i = 0; i < this.entries.size(); i++) {
+            TransactionEntry entry = this.entries.get(i);
+            if (entry.getEntryType() == EntryType.DEBIT) {
+                debits = Money.addUnits(debits, entry.getAmount().units());
+            } else {
+                credits = Money.addUnits(credits, entry.getAmount().units());
+            }
+        }
+        this.totalDebits = Money.ofUnits(debits);
+        this.totalCredits = Money.ofUnits(credits);
     }
 
     public static Transaction create(String description, LocalDateTime date, List<TransactionEntry> entries) {
@@ -29,21 +44,11 @@ public class Transaction {
             throw new InsufficientEntriesException();
         }
 
-        Money totalDebits = entries.stream()
-                .filter(e -> e.getEntryType() == EntryType.DEBIT)
-                .map(TransactionEntry::getAmount)
-                .reduce(Money.ZERO, Money::add);
-
-        Money totalCredits = entries.stream()
-                .filter(e -> e.getEntryType() == EntryType.CREDIT)
-                .map(TransactionEntry::getAmount)
-                .reduce(Money.ZERO, Money::add);
-
-        if (!totalDebits.equals(totalCredits)) {
+        Transaction transaction = new Transaction(null, description, date, entries, LocalDateTime.now());
+        if (!transaction.totalDebits.equals(transaction.totalCredits)) {
             throw new UnbalancedTransactionException();
         }
-
-        return new Transaction(null, description, date, entries, LocalDateTime.now());
+        return transaction;
     }
 
     public Long getId() {
@@ -65,4 +70,12 @@ public class Transaction {
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
+
+    public Money getTotalDebits() {
+        return totalDebits;
+    }
+
+    public Money getTotalCredits() {
+        return totalCredits;
+    }
 }
@@ -0,0 +1,73 @@
+package com.luminary.ledger.domain.vo;
+
+import com.luminary.ledger.domain.enums.AccountType;
+import com.luminary.ledger.domain.enums.EntryType;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+public final class BalanceTotals {
+
+    public static final BalanceTotals ZERO = new BalanceTotals(Money.ZERO, Money.ZERO);
+
+    private final Money debits;
+    private final Money credits;
+
+    private BalanceTotals(Money debits, Money credits) {
+        this.debits = debits;
+        this.credits = credits;
+    }
+
+    public static BalanceTotals of(Money debits, Money credits) {
+        Objects.requireNonNull(debits, "Debit total must not be null");
+        Objects.requireNonNull(credits, "Credit total must not be null");
+        return new BalanceTotals(debits, credits);
+    }
+
+    public static BalanceTotals of(BigDecimal debits, BigDecimal credits) {
+        return of(Money.of(debits), Money.of(credits));
+    }
+
+    public Money debits() {
+        return debits;
+    }
+
+    public Money credits() {
+        return credits;
+    }
+
+    public BalanceTotals add(EntryType entryType, Money amount) {
+        if (entryType == EntryType.DEBIT) {
+            return new BalanceTotals(debits.add(amount), credits);
+        }
+        return new BalanceTotals(debits, credits.add(amount));
+    }
+
+    public BalanceTotals plus(BalanceTotals other) {
+        return new BalanceTotals(debits.add(other.debits), credits.add(other.credits));
+    }
+
+    public BigDecimal balanceFor(AccountType accountType) {
+        Money increases = accountType.isDebitNormal() ? debits : credits;
+        Money decreases = accountType.isDebitNormal() ? credits : debits;
+        return Money.toDecimal(increases.units() - decreases.units());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BalanceTotals that = (BalanceTotals) o;
+        return debits.equals(that.debits) && credits.equals(that.credits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(debits, credits);
+    }
+
+    @Override
+    public String toString() {
+        return "debits=" + debits + ", credits=" + credits;
+    }
+}
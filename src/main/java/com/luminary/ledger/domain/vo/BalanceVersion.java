@@ -0,0 +1,71 @@
+package com.luminary.ledger.domain.vo;
+
+import java.util.Objects;
+
+// An account's balance version as an entity tag: "<accountId>.<version>". The version grows with every posting.
+public final class BalanceVersion {
+
+    private final Long accountId;
+    private final long version;
+
+    private BalanceVersion(Long accountId, long version) {
+        this.accountId = accountId;
+        this.version = version;
+    }
+
+    public static BalanceVersion of(Long accountId, long version) {
+        Objects.requireNonNull(accountId, "Account id must not be null");
+        if (version < 0) {
+            throw new IllegalArgumentException("Balance version must not be negative");
+        }
+        return new BalanceVersion(accountId, version);
+    }
+
+    // Weak tags are rejected: a conditional posting needs an exact balance version.
+    public static BalanceVersion fromETag(String value) {
+        String tag = value.trim();
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new IllegalArgumentException("Invalid entity tag: " + value);
+        }
+        String raw = tag.substring(1, tag.length() - 1);
+        int separator = raw.indexOf('.');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid entity tag: " + value);
+        }
+        try {
+            return of(Long.valueOf(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid entity tag: " + value);
+        }
+    }
+
+    public String toETag() {
+        return "\"" + accountId + "." + version + "\"";
+    }
+
+    public Long accountId() {
+        return accountId;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BalanceVersion that = (BalanceVersion) o;
+        return accountId.equals(that.accountId) && version == that.version;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(accountId, version);
+    }
+
+    @Override
+    public String toString() {
+        return toETag();
+    }
+}
@@ -0,0 +1,57 @@
+package com.luminary.ledger.domain.vo;
+
+import java.util.Objects;
+
+// A client's Idempotency-Key together with the hash of the request it was sent with.
+public final class IdempotencyKey {
+
+    public static final int MAX_LENGTH = 255;
+
+    private final String value;
+    private final String requestHash;
+
+    private IdempotencyKey(String value, String requestHash) {
+        this.value = value;
+        this.requestHash = requestHash;
+    }
+
+    public static IdempotencyKey of(String value, String requestHash) {
+        Objects.requireNonNull(value, "Idempotency-Key must not be null");
+        Objects.requireNonNull(requestHash, "Request hash must not be null");
+        if (value.isBlank() || value.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1 to " + MAX_LENGTH + " characters");
+        }
+        return new IdempotencyKey(value, requestHash);
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public String requestHash() {
+        return requestHash;
+    }
+
+    // Keys stored before request hashes were recorded have none and accept any request.
+    public boolean matches(String storedRequestHash) {
+        return storedRequestHash == null || storedRequestHash.equals(requestHash);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IdempotencyKey that = (IdempotencyKey) o;
+        return value.equals(that.value) && requestHash.equals(that.requestHash);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, requestHash);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
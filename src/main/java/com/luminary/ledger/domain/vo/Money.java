@@ -4,39 +4,71 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Objects;
 
+// Fixed-point amount held as a count of 1/10^SCALE units; BigDecimal is only built at the API and JDBC boundaries.
 public final class Money {
 
     public static final int SCALE = 4;
-    public static final Money ZERO = new Money(BigDecimal.ZERO.setScale(SCALE, RoundingMode.UNNECESSARY));
+    public static final Money ZERO = new Money(0L);
 
-    private final BigDecimal amount;
+    private final long units;
 
-    private Money(BigDecimal amount) {
-        this.amount = amount;
+    private Money(long units) {
+        this.units = units;
     }
 
     public static Money of(BigDecimal value) {
         Objects.requireNonNull(value, "Amount must not be null");
-        if (value.compareTo(BigDecimal.ZERO) < 0) {
+        if (value.signum() < 0) {
             throw new IllegalArgumentException("Amount must not be negative: " + value);
         }
-        return new Money(value.setScale(SCALE, RoundingMode.HALF_UP));
+        try {
+            return new Money(value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+        } catch (ArithmeticException ex) {
+            throw new IllegalArgumentException("Amount out of range: " + value);
+        }
     }
 
     public static Money of(String value) {
         return of(new BigDecimal(value));
     }
 
+    public static Money ofUnits(long units) {
+        if (units < 0) {
+            throw new IllegalArgumentException("Amount must not be negative: " + toDecimal(units));
+        }
+        return units == 0 ? ZERO : new Money(units);
+    }
+
+    public static BigDecimal toDecimal(long units) {
+        return BigDecimal.valueOf(units, SCALE);
+    }
+
+    public static long addUnits(long a, long b) {
+        try {
+            return Math.addExact(a, b);
+        } catch (ArithmeticException ex) {
+            throw new IllegalArgumentException("Amount out of range");
+        }
+    }
+
+    public long units() {
+        return units;
+    }
+
     public BigDecimal value() {
-        return amount;
+        return toDecimal(units);
     }
 
     public Money add(Money other) {
-        return new Money(this.amount.add(other.amount));
+        return new Money(addUnits(units, other.units));
     }
 
     public Money subtract(Money other) {
-        return new Money(this.amount.subtract(other.amount));
+        try {
+            return new Money(Math.subtractExact(units, other.units));
+        } catch (ArithmeticException ex) {
+            throw new IllegalArgumentException("Amount out of range");
+        }
     }
 
     @Override
@@ -44,16 +76,16 @@ public final class Money {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Money money = (Money) o;
-        return amount.compareTo(money.amount) == 0;
+        return units == money.units;
     }
 
     @Override
     public int hashCode() {
-        return amount.stripTrailingZeros().hashCode();
+        return Long.hashCode(units);
     }
 
     @Override
     public String toString() {
-        return amount.toPlainString();
+        return value().toPlainString();
     }
 }
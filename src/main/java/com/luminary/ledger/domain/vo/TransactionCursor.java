@@ -0,0 +1,69 @@
+package com.luminary.ledger.domain.vo;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+public final class TransactionCursor {
+
+    private final LocalDateTime date;
+    private final Long id;
+
+    private TransactionCursor(LocalDateTime date, Long id) {
+        this.date = date;
+        this.id = id;
+    }
+
+    public static TransactionCursor of(LocalDateTime date, Long id) {
+        Objects.requireNonNull(date, "Cursor date must not be null");
+        Objects.requireNonNull(id, "Cursor id must not be null");
+        return new TransactionCursor(date, id);
+    }
+
+    public static TransactionCursor decode(String value) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + value);
+            }
+            return of(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.valueOf(decoded.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + value);
+        }
+    }
+
+    public String encode() {
+        String raw = date + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime date() {
+        return date;
+    }
+
+    public Long id() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TransactionCursor that = (TransactionCursor) o;
+        return date.equals(that.date) && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, id);
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
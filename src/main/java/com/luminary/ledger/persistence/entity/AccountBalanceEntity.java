@@ -0,0 +1,73 @@
+package com.luminary.ledger.persistence.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Read-only view summing the account's balance shards; postings write account_balance_shards directly.
+@Entity
+@Immutable
+@Table(name = "account_balances")
+public class AccountBalanceEntity {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(name = "debit_total", nullable = false, precision = 19, scale = 4)
+    private BigDecimal debitTotal;
+
+    @Column(name = "credit_total", nullable = false, precision = 19, scale = 4)
+    private BigDecimal creditTotal;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public AccountBalanceEntity() {
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public BigDecimal getDebitTotal() {
+        return debitTotal;
+    }
+
+    public void setDebitTotal(BigDecimal debitTotal) {
+        this.debitTotal = debitTotal;
+    }
+
+    public BigDecimal getCreditTotal() {
+        return creditTotal;
+    }
+
+    public void setCreditTotal(BigDecimal creditTotal) {
+        this.creditTotal = creditTotal;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,100 @@
+package com.luminary.ledger.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "account_balance_snapshots")
+@IdClass(AccountBalanceSnapshotEntity.SnapshotId.class)
+public class AccountBalanceSnapshotEntity {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Id
+    @Column(name = "as_of")
+    private LocalDateTime asOf;
+
+    @Column(name = "debit_total", nullable = false, precision = 19, scale = 4)
+    private BigDecimal debitTotal;
+
+    @Column(name = "credit_total", nullable = false, precision = 19, scale = 4)
+    private BigDecimal creditTotal;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public AccountBalanceSnapshotEntity() {
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public LocalDateTime getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(LocalDateTime asOf) {
+        this.asOf = asOf;
+    }
+
+    public BigDecimal getDebitTotal() {
+        return debitTotal;
+    }
+
+    public void setDebitTotal(BigDecimal debitTotal) {
+        this.debitTotal = debitTotal;
+    }
+
+    public BigDecimal getCreditTotal() {
+        return creditTotal;
+    }
+
+    public void setCreditTotal(BigDecimal creditTotal) {
+        this.creditTotal = creditTotal;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public static class SnapshotId implements Serializable {
+
+        private Long accountId;
+        private LocalDateTime asOf;
+
+        public SnapshotId() {
+        }
+
+        public SnapshotId(Long accountId, LocalDateTime asOf) {
+            this.accountId = accountId;
+            this.asOf = asOf;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof SnapshotId that)) return false;
+            return Objects.equals(accountId, that.accountId) && Objects.equals(asOf, that.asOf);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(accountId, asOf);
+        }
+    }
+}
@@ -26,6 +26,12 @@ public class AccountEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Column(name = "balance_shards", nullable = false)
+    private int balanceShards = 1;
+
+    @Version
+    private Long version;
+
     public AccountEntity() {
     }
 
@@ -68,4 +74,20 @@ public class AccountEntity {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public int getBalanceShards() {
+        return balanceShards;
+    }
+
+    public void setBalanceShards(int balanceShards) {
+        this.balanceShards = balanceShards;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
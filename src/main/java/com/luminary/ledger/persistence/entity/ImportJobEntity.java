@@ -0,0 +1,106 @@
+package com.luminary.ledger.persistence.entity;
+
+import com.luminary.ledger.domain.enums.ImportFormat;
+import com.luminary.ledger.domain.enums.ImportStatus;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "import_jobs")
+public class ImportJobEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportStatus status;
+
+    @Column(name = "committed_offset", nullable = false)
+    private long committedOffset;
+
+    @Column(name = "imported_transactions", nullable = false)
+    private long importedTransactions;
+
+    @Column(name = "failure_reason", length = 1000)
+    private String failureReason;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public ImportJobEntity() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ImportFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(ImportFormat format) {
+        this.format = format;
+    }
+
+    public ImportStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ImportStatus status) {
+        this.status = status;
+    }
+
+    public long getCommittedOffset() {
+        return committedOffset;
+    }
+
+    public void setCommittedOffset(long committedOffset) {
+        this.committedOffset = committedOffset;
+    }
+
+    public long getImportedTransactions() {
+        return importedTransactions;
+    }
+
+    public void setImportedTransactions(long importedTransactions) {
+        this.importedTransactions = importedTransactions;
+    }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    public void setFailureReason(String failureReason) {
+        this.failureReason = failureReason;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
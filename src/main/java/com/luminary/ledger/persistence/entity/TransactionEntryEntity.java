@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class TransactionEntryEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_entries_id_seq")
+    @SequenceGenerator(name = "transaction_entries_id_seq", sequenceName = "transaction_entries_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -29,6 +30,9 @@ public class TransactionEntryEntity {
     @Column(nullable = false, precision = 19, scale = 4)
     private BigDecimal amount;
 
+    @Column(name = "transaction_date", nullable = false, updatable = false)
+    private LocalDateTime transactionDate;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -75,6 +79,14 @@ public class TransactionEntryEntity {
         this.amount = amount;
     }
 
+    public LocalDateTime getTransactionDate() {
+        return transactionDate;
+    }
+
+    public void setTransactionDate(LocalDateTime transactionDate) {
+        this.transactionDate = transactionDate;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
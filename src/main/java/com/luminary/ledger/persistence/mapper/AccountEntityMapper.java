@@ -14,7 +14,8 @@ public class AccountEntityMapper {
                 AccountName.of(entity.getName()),
                 entity.getType(),
                 entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                entity.getUpdatedAt(),
+                entity.getBalanceShards()
         );
     }
 
@@ -25,6 +26,7 @@ public class AccountEntityMapper {
         entity.setType(domain.getType());
         entity.setCreatedAt(domain.getCreatedAt());
         entity.setUpdatedAt(domain.getUpdatedAt());
+        entity.setBalanceShards(domain.getBalanceShards());
         return entity;
     }
 }
@@ -0,0 +1,35 @@
+package com.luminary.ledger.persistence.mapper;
+
+import com.luminary.ledger.domain.model.ImportJob;
+import com.luminary.ledger.persistence.entity.ImportJobEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ImportJobEntityMapper {
+
+    public ImportJob toDomain(ImportJobEntity entity) {
+        return new ImportJob(
+                entity.getId(),
+                entity.getFormat(),
+                entity.getStatus(),
+                entity.getCommittedOffset(),
+                entity.getImportedTransactions(),
+                entity.getFailureReason(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
+        );
+    }
+
+    public ImportJobEntity toEntity(ImportJob domain) {
+        ImportJobEntity entity = new ImportJobEntity();
+        entity.setId(domain.getId());
+        entity.setFormat(domain.getFormat());
+        entity.setStatus(domain.getStatus());
+        entity.setCommittedOffset(domain.getCommittedOffset());
+        entity.setImportedTransactions(domain.getImportedTransactions());
+        entity.setFailureReason(domain.getFailureReason());
+        entity.setCreatedAt(domain.getCreatedAt());
+        entity.setUpdatedAt(domain.getUpdatedAt());
+        return entity;
+    }
+}
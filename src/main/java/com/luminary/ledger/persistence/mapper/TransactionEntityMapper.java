@@ -41,6 +41,7 @@ public class TransactionEntityMapper {
                     entryEntity.setAccount(accountEntities.get(entry.getAccountId()));
                     entryEntity.setEntryType(entry.getEntryType());
                     entryEntity.setAmount(entry.getAmount().value());
+                    entryEntity.setTransactionDate(domain.getDate());
                     entryEntity.setCreatedAt(entry.getCreatedAt());
                     return entryEntity;
                 })
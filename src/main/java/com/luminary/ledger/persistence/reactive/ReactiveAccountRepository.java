@@ -0,0 +1,35 @@
+package com.luminary.ledger.persistence.reactive;
+
+import com.luminary.ledger.domain.enums.AccountType;
+import com.luminary.ledger.domain.model.Account;
+import com.luminary.ledger.domain.vo.AccountName;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+@ConditionalOnProperty(prefix = "ledger.reactive", name = "enabled", havingValue = "true")
+public class ReactiveAccountRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveAccountRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<Account> findById(Long id) {
+        return databaseClient.sql("SELECT id, name, type, created_at, updated_at, balance_shards FROM accounts WHERE id = :id")
+                .bind("id", id)
+                .map(row -> new Account(
+                        row.get("id", Long.class),
+                        AccountName.of(row.get("name", String.class)),
+                        AccountType.valueOf(row.get("type", String.class)),
+                        row.get("created_at", LocalDateTime.class),
+                        row.get("updated_at", LocalDateTime.class),
+                        row.get("balance_shards", Integer.class)))
+                .one();
+    }
+}
@@ -0,0 +1,29 @@
+package com.luminary.ledger.persistence.reactive;
+
+import com.luminary.ledger.domain.vo.BalanceTotals;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+@Repository
+@ConditionalOnProperty(prefix = "ledger.reactive", name = "enabled", havingValue = "true")
+public class ReactiveBalanceRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveBalanceRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<BalanceTotals> findTotals(Long accountId) {
+        return databaseClient.sql("SELECT debit_total, credit_total FROM account_balances WHERE account_id = :accountId")
+                .bind("accountId", accountId)
+                .map(row -> BalanceTotals.of(
+                        row.get("debit_total", BigDecimal.class),
+                        row.get("credit_total", BigDecimal.class)))
+                .one();
+    }
+}
@@ -0,0 +1,73 @@
+package com.luminary.ledger.persistence.reactive;
+
+import com.luminary.ledger.domain.enums.EntryType;
+import com.luminary.ledger.domain.model.Transaction;
+import com.luminary.ledger.domain.model.TransactionEntry;
+import com.luminary.ledger.domain.vo.Money;
+import com.luminary.ledger.domain.vo.TransactionCursor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@ConditionalOnProperty(prefix = "ledger.reactive", name = "enabled", havingValue = "true")
+public class ReactiveTransactionHistoryRepository {
+
+    private static final String PAGE_SQL = "WITH page AS (" +
+            "SELECT transaction_id, transaction_date FROM transaction_entries WHERE account_id = :accountId %s" +
+            "GROUP BY transaction_date, transaction_id " +
+            "ORDER BY transaction_date DESC, transaction_id DESC LIMIT :limit) " +
+            "SELECT t.id, t.description, t.date, t.created_at, e.id AS entry_id, e.account_id, e.entry_type, " +
+            "e.amount, e.created_at AS entry_created_at " +
+            "FROM page p JOIN transactions t ON t.id = p.transaction_id AND t.date = p.transaction_date " +
+            "JOIN transaction_entries e ON e.transaction_id = t.id AND e.transaction_date = t.date " +
+            "ORDER BY p.transaction_date DESC, p.transaction_id DESC, e.id";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveTransactionHistoryRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    // One round trip: the page of transaction ids and their entries, ordered so rows of a transaction are adjacent.
+    public Flux<Transaction> findPage(Long accountId, TransactionCursor after, int limit) {
+        String keyset = after == null ? ""
+                : "AND transaction_date <= :date AND (transaction_date < :date OR transaction_id < :id) ";
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(PAGE_SQL.formatted(keyset))
+                .bind("accountId", accountId)
+                .bind("limit", limit);
+        if (after != null) {
+            spec = spec.bind("date", after.date()).bind("id", after.id());
+        }
+        return spec
+                .map(row -> new HistoryRow(
+                        row.get("id", Long.class),
+                        row.get("description", String.class),
+                        row.get("date", LocalDateTime.class),
+                        row.get("created_at", LocalDateTime.class),
+                        new TransactionEntry(
+                                row.get("entry_id", Long.class),
+                                row.get("account_id", Long.class),
+                                EntryType.valueOf(row.get("entry_type", String.class)),
+                                Money.of(row.get("amount", BigDecimal.class)),
+                                row.get("entry_created_at", LocalDateTime.class))))
+                .all()
+                .bufferUntilChanged(HistoryRow::transactionId)
+                .map(this::toTransaction);
+    }
+
+    private Transaction toTransaction(List<HistoryRow> rows) {
+        HistoryRow first = rows.get(0);
+        return new Transaction(first.transactionId(), first.description(), first.date(),
+                rows.stream().map(HistoryRow::entry).toList(), first.createdAt());
+    }
+
+    private record HistoryRow(Long transactionId, String description, LocalDateTime date,
+                              LocalDateTime createdAt, TransactionEntry entry) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.luminary.ledger.persistence.repository;
+
+import com.luminary.ledger.persistence.entity.AccountBalanceEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+public interface AccountBalanceRepository extends JpaRepository<AccountBalanceEntity, Long> {
+
+    // Every shard row exists up front so the snapshot job's share locks cover all of them.
+    @Modifying
+    @Query(value = "INSERT INTO account_balance_shards (account_id, shard, debit_total, credit_total, version, " +
+            "updated_at) SELECT :accountId, s, 0, 0, 0, now() FROM generate_series(0, :shards - 1) s " +
+            "ON CONFLICT (account_id, shard) DO NOTHING", nativeQuery = true)
+    int initialize(@Param("accountId") Long accountId, @Param("shards") int shards);
+
+    @Query(value = "INSERT INTO account_balance_shards (account_id, shard, debit_total, credit_total, version, " +
+            "updated_at) VALUES (:accountId, :shard, :debits, :credits, 1, now()) " +
+            "ON CONFLICT (account_id, shard) DO UPDATE SET " +
+            "debit_total = account_balance_shards.debit_total + EXCLUDED.debit_total, " +
+            "credit_total = account_balance_shards.credit_total + EXCLUDED.credit_total, " +
+            "version = account_balance_shards.version + 1, " +
+            "updated_at = EXCLUDED.updated_at " +
+            "RETURNING account_id AS accountId, debit_total AS debitTotal, credit_total AS creditTotal, version, " +
+            "(SELECT a.balance_shards FROM accounts a WHERE a.id = account_id) AS balanceShards",
+            nativeQuery = true)
+    UpdatedBalance applyDelta(@Param("accountId") Long accountId,
+                              @Param("shard") int shard,
+                              @Param("debits") BigDecimal debits,
+                              @Param("credits") BigDecimal credits);
+
+    // Compare-and-set on an unsharded balance row: no row is returned when another posting got there first.
+    @Query(value = "UPDATE account_balance_shards SET " +
+            "debit_total = debit_total + :debits, " +
+            "credit_total = credit_total + :credits, " +
+            "version = version + 1, " +
+            "updated_at = now() " +
+            "WHERE account_id = :accountId AND shard = 0 AND version = :expectedVersion " +
+            "RETURNING account_id AS accountId, debit_total AS debitTotal, credit_total AS creditTotal, version, " +
+            "(SELECT a.balance_shards FROM accounts a WHERE a.id = account_id) AS balanceShards",
+            nativeQuery = true)
+    Optional<UpdatedBalance> applyDeltaIfVersion(@Param("accountId") Long accountId,
+                                                 @Param("debits") BigDecimal debits,
+                                                 @Param("credits") BigDecimal credits,
+                                                 @Param("expectedVersion") long expectedVersion);
+
+    @Query(value = "SELECT COALESCE(b.account_id, s.account_id) AS accountId, " +
+            "COALESCE(b.debit_total, 0) AS materializedDebits, " +
+            "COALESCE(b.credit_total, 0) AS materializedCredits, " +
+            "COALESCE(s.debit_total, 0) AS entryDebits, " +
+            "COALESCE(s.credit_total, 0) AS entryCredits " +
+            "FROM account_balances b " +
+            "FULL OUTER JOIN (" +
+            "SELECT account_id, " +
+            "SUM(CASE WHEN entry_type = 'DEBIT' THEN amount ELSE 0 END) AS debit_total, " +
+            "SUM(CASE WHEN entry_type = 'CREDIT' THEN amount ELSE 0 END) AS credit_total " +
+            "FROM transaction_entries GROUP BY account_id" +
+            ") s ON s.account_id = b.account_id " +
+            "WHERE COALESCE(b.debit_total, 0) <> COALESCE(s.debit_total, 0) " +
+            "OR COALESCE(b.credit_total, 0) <> COALESCE(s.credit_total, 0) " +
+            "ORDER BY 1", nativeQuery = true)
+    List<BalanceDiscrepancy> findDiscrepancies();
+
+    interface UpdatedBalance {
+
+        Long getAccountId();
+
+        BigDecimal getDebitTotal();
+
+        BigDecimal getCreditTotal();
+
+        Long getVersion();
+
+        // Read from the account row, so it stays current when another instance still caches the old shard count.
+        Integer getBalanceShards();
+    }
+
+    interface BalanceDiscrepancy {
+
+        Long getAccountId();
+
+        BigDecimal getMaterializedDebits();
+
+        BigDecimal getMaterializedCredits();
+
+        BigDecimal getEntryDebits();
+
+        BigDecimal getEntryCredits();
+    }
+}
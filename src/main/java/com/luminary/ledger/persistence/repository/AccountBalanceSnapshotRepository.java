@@ -0,0 +1,55 @@
+package com.luminary.ledger.persistence.repository;
+
+import com.luminary.ledger.persistence.entity.AccountBalanceSnapshotEntity;
+import com.luminary.ledger.persistence.entity.AccountBalanceSnapshotEntity.SnapshotId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface AccountBalanceSnapshotRepository extends JpaRepository<AccountBalanceSnapshotEntity, SnapshotId> {
+
+    Optional<AccountBalanceSnapshotEntity> findFirstByAccountIdAndAsOfLessThanEqualOrderByAsOfDesc(
+            Long accountId, LocalDateTime asOf);
+
+    // Share-locks every balance shard of the next accounts so postings into them wait for the snapshot to commit.
+    @Query(value = "WITH locked AS (" +
+            "SELECT account_id FROM account_balance_shards WHERE account_id IN (" +
+            "SELECT id FROM accounts WHERE id > :afterAccountId ORDER BY id LIMIT :limit) " +
+            "ORDER BY account_id, shard FOR SHARE) " +
+            "SELECT DISTINCT account_id FROM locked ORDER BY account_id", nativeQuery = true)
+    List<Long> lockNextAccountIds(@Param("afterAccountId") Long afterAccountId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO account_balance_snapshots (account_id, as_of, debit_total, credit_total, created_at) " +
+            "SELECT a.id, :asOf, " +
+            "COALESCE(MAX(p.debit_total), 0) + " +
+            "COALESCE(SUM(CASE WHEN e.entry_type = 'DEBIT' THEN e.amount ELSE 0 END), 0), " +
+            "COALESCE(MAX(p.credit_total), 0) + " +
+            "COALESCE(SUM(CASE WHEN e.entry_type = 'CREDIT' THEN e.amount ELSE 0 END), 0), " +
+            "now() " +
+            "FROM accounts a " +
+            "LEFT JOIN LATERAL (" +
+            "SELECT s.as_of, s.debit_total, s.credit_total FROM account_balance_snapshots s " +
+            "WHERE s.account_id = a.id AND s.as_of < :asOf ORDER BY s.as_of DESC LIMIT 1" +
+            ") p ON true " +
+            "LEFT JOIN transaction_entries e ON e.account_id = a.id " +
+            "AND e.transaction_date < :asOf AND (p.as_of IS NULL OR e.transaction_date >= p.as_of) " +
+            "WHERE a.id IN (:accountIds) " +
+            "GROUP BY a.id " +
+            "ON CONFLICT (account_id, as_of) DO UPDATE SET " +
+            "debit_total = EXCLUDED.debit_total, " +
+            "credit_total = EXCLUDED.credit_total, " +
+            "created_at = EXCLUDED.created_at", nativeQuery = true)
+    int snapshot(@Param("accountIds") Collection<Long> accountIds, @Param("asOf") LocalDateTime asOf);
+
+    @Modifying
+    @Query(value = "DELETE FROM account_balance_snapshots " +
+            "WHERE account_id = :accountId AND as_of > :date", nativeQuery = true)
+    int deleteCoveringDate(@Param("accountId") Long accountId, @Param("date") LocalDateTime date);
+}
@@ -0,0 +1,21 @@
+package com.luminary.ledger.persistence.repository;
+
+import com.luminary.ledger.persistence.entity.IdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+
+    // Plain INSERT: a concurrent duplicate must fail on the primary key and roll back its posting.
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (idempotency_key, transaction_id, transaction_date, request_hash, " +
+            "created_at) VALUES (:key, :transactionId, :transactionDate, :requestHash, now())", nativeQuery = true)
+    int insert(@Param("key") String key,
+               @Param("transactionId") Long transactionId,
+               @Param("transactionDate") LocalDateTime transactionDate,
+               @Param("requestHash") String requestHash);
+}
@@ -0,0 +1,47 @@
+package com.luminary.ledger.persistence.repository;
+
+import com.luminary.ledger.domain.enums.ImportStatus;
+import com.luminary.ledger.persistence.entity.ImportJobEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+// updatedAt doubles as the running job's heartbeat and claim token: every write is conditional on the heartbeat the
+// writer last saw, so a run whose job was claimed by another resume changes nothing.
+public interface ImportJobRepository extends JpaRepository<ImportJobEntity, Long> {
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ImportJobEntity j SET j.committedOffset = :offset, " +
+            "j.importedTransactions = j.importedTransactions + :imported, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.updatedAt = :heartbeat")
+    int recordProgress(@Param("id") Long id,
+                       @Param("offset") long offset,
+                       @Param("imported") long imported,
+                       @Param("heartbeat") LocalDateTime heartbeat,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ImportJobEntity j SET j.status = :status, j.failureReason = :failureReason, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.updatedAt = :heartbeat")
+    int updateStatus(@Param("id") Long id,
+                     @Param("status") ImportStatus status,
+                     @Param("failureReason") String failureReason,
+                     @Param("heartbeat") LocalDateTime heartbeat,
+                     @Param("now") LocalDateTime now);
+
+    // Only the resume that read this heartbeat and checkpoint wins; a concurrent resume of the same job gets 0.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ImportJobEntity j SET j.status = com.luminary.ledger.domain.enums.ImportStatus.RUNNING, " +
+            "j.failureReason = NULL, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.updatedAt = :heartbeat AND j.committedOffset = :offset " +
+            "AND (j.status = com.luminary.ledger.domain.enums.ImportStatus.FAILED " +
+            "OR (j.status = com.luminary.ledger.domain.enums.ImportStatus.RUNNING AND j.updatedAt < :staleBefore))")
+    int claimForResume(@Param("id") Long id,
+                       @Param("heartbeat") LocalDateTime heartbeat,
+                       @Param("offset") long offset,
+                       @Param("now") LocalDateTime now,
+                       @Param("staleBefore") LocalDateTime staleBefore);
+}
@@ -1,17 +1,45 @@
 package com.luminary.ledger.persistence.repository;
 
-import com.luminary.ledger.domain.enums.EntryType;
 import com.luminary.ledger.persistence.entity.TransactionEntryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 public interface TransactionEntryRepository extends JpaRepository<TransactionEntryEntity, Long> {
 
-    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM TransactionEntryEntity e " +
-            "WHERE e.account.id = :accountId AND e.entryType = :entryType")
-    BigDecimal sumByAccountIdAndEntryType(@Param("accountId") Long accountId,
-                                          @Param("entryType") EntryType entryType);
+    @Query("SELECT COALESCE(SUM(CASE WHEN e.entryType = com.luminary.ledger.domain.enums.EntryType.DEBIT " +
+            "THEN e.amount ELSE 0 END), 0) AS debitTotal, " +
+            "COALESCE(SUM(CASE WHEN e.entryType = com.luminary.ledger.domain.enums.EntryType.CREDIT " +
+            "THEN e.amount ELSE 0 END), 0) AS creditTotal " +
+            "FROM TransactionEntryEntity e WHERE e.account.id = :accountId")
+    EntryTotals sumTotalsByAccountId(@Param("accountId") Long accountId);
+
+    @Query("SELECT COALESCE(SUM(CASE WHEN e.entryType = com.luminary.ledger.domain.enums.EntryType.DEBIT " +
+            "THEN e.amount ELSE 0 END), 0) AS debitTotal, " +
+            "COALESCE(SUM(CASE WHEN e.entryType = com.luminary.ledger.domain.enums.EntryType.CREDIT " +
+            "THEN e.amount ELSE 0 END), 0) AS creditTotal " +
+            "FROM TransactionEntryEntity e WHERE e.account.id = :accountId " +
+            "AND e.transactionDate <= :to")
+    EntryTotals sumTotalsByAccountIdUpTo(@Param("accountId") Long accountId,
+                                         @Param("to") LocalDateTime to);
+
+    @Query("SELECT COALESCE(SUM(CASE WHEN e.entryType = com.luminary.ledger.domain.enums.EntryType.DEBIT " +
+            "THEN e.amount ELSE 0 END), 0) AS debitTotal, " +
+            "COALESCE(SUM(CASE WHEN e.entryType = com.luminary.ledger.domain.enums.EntryType.CREDIT " +
+            "THEN e.amount ELSE 0 END), 0) AS creditTotal " +
+            "FROM TransactionEntryEntity e WHERE e.account.id = :accountId " +
+            "AND e.transactionDate >= :from AND e.transactionDate <= :to")
+    EntryTotals sumTotalsByAccountIdBetween(@Param("accountId") Long accountId,
+                                            @Param("from") LocalDateTime from,
+                                            @Param("to") LocalDateTime to);
+
+    interface EntryTotals {
+
+        BigDecimal getDebitTotal();
+
+        BigDecimal getCreditTotal();
+    }
 }
@@ -5,16 +5,60 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface TransactionRepository extends JpaRepository<TransactionEntity, Long> {
 
-    @Query("SELECT DISTINCT t.id FROM TransactionEntity t JOIN t.entries e WHERE e.account.id = :accountId")
-    Page<Long> findTransactionIdsByAccountId(@Param("accountId") Long accountId, Pageable pageable);
+    @Query(value = "SELECT e.transaction.id AS transactionId, e.transactionDate AS transactionDate " +
+            "FROM TransactionEntryEntity e WHERE e.account.id = :accountId " +
+            "GROUP BY e.transactionDate, e.transaction.id " +
+            "ORDER BY e.transactionDate DESC, e.transaction.id DESC",
+            countQuery = "SELECT COUNT(DISTINCT e.transaction.id) FROM TransactionEntryEntity e " +
+                    "WHERE e.account.id = :accountId")
+    Page<TransactionKey> findTransactionKeysByAccountId(@Param("accountId") Long accountId, Pageable pageable);
 
-    @Query("SELECT DISTINCT t FROM TransactionEntity t JOIN FETCH t.entries WHERE t.id IN :ids ORDER BY t.createdAt DESC")
-    List<TransactionEntity> findAllWithEntriesByIds(@Param("ids") List<Long> ids);
+    @Query("SELECT e.transaction.id AS transactionId, e.transactionDate AS transactionDate " +
+            "FROM TransactionEntryEntity e WHERE e.account.id = :accountId " +
+            "GROUP BY e.transactionDate, e.transaction.id " +
+            "ORDER BY e.transactionDate DESC, e.transaction.id DESC")
+    List<TransactionKey> findFirstTransactionKeysByAccountId(@Param("accountId") Long accountId, Limit limit);
+
+    @Query("SELECT e.transaction.id AS transactionId, e.transactionDate AS transactionDate " +
+            "FROM TransactionEntryEntity e WHERE e.account.id = :accountId " +
+            "AND e.transactionDate <= :date " +
+            "AND (e.transactionDate < :date OR e.transaction.id < :id) " +
+            "GROUP BY e.transactionDate, e.transaction.id " +
+            "ORDER BY e.transactionDate DESC, e.transaction.id DESC")
+    List<TransactionKey> findTransactionKeysByAccountIdBefore(@Param("accountId") Long accountId,
+                                                              @Param("date") LocalDateTime date,
+                                                              @Param("id") Long id,
+                                                              Limit limit);
+
+    // The id alone carries no date, so this probes the primary key of every monthly partition.
+    @Query("SELECT t.date FROM TransactionEntity t WHERE t.id = :id")
+    Optional<LocalDateTime> findDateById(@Param("id") Long id);
+
+    @Query("SELECT t FROM TransactionEntity t JOIN FETCH t.entries e WHERE t.id = :id " +
+            "AND t.date = :date AND e.transactionDate = :date")
+    Optional<TransactionEntity> findWithEntriesByIdAndDate(@Param("id") Long id, @Param("date") LocalDateTime date);
+
+    // The date bounds select nothing extra; they let PostgreSQL skip the monthly partitions outside the page.
+    @Query("SELECT t FROM TransactionEntity t JOIN FETCH t.entries e WHERE t.id IN :ids " +
+            "AND t.date BETWEEN :from AND :to AND e.transactionDate BETWEEN :from AND :to")
+    List<TransactionEntity> findAllWithEntriesByIds(@Param("ids") List<Long> ids,
+                                                    @Param("from") LocalDateTime from,
+                                                    @Param("to") LocalDateTime to);
+
+    interface TransactionKey {
+
+        Long getTransactionId();
+
+        LocalDateTime getTransactionDate();
+    }
 }
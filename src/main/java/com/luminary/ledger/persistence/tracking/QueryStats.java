@@ -0,0 +1,10 @@
+package com.luminary.ledger.persistence.tracking;
+
+import java.time.Duration;
+import java.util.List;
+
+// statements counts every statement prepared; sql keeps the first few for logging.
+public record QueryStats(int statements, Duration dbTime, List<String> sql) {
+
+    public static final QueryStats EMPTY = new QueryStats(0, Duration.ZERO, List.of());
+}
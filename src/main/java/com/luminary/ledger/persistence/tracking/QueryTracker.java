@@ -0,0 +1,95 @@
+package com.luminary.ledger.persistence.tracking;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+// Statements are tallied against the thread's current request. Work one thread runs for another (a posting written by
+// another request's combiner, see PostingCoordinator) is wrapped with bind() so it counts toward the request it is for.
+public final class QueryTracker {
+
+    static final int MAX_RECORDED_STATEMENTS = 50;
+
+    private static final ThreadLocal<Tally> CURRENT = new ThreadLocal<>();
+
+    private QueryTracker() {
+    }
+
+    public static void start() {
+        CURRENT.set(new Tally());
+    }
+
+    public static QueryStats stop() {
+        Tally tally = CURRENT.get();
+        CURRENT.remove();
+        return tally == null ? QueryStats.EMPTY : tally.toStats();
+    }
+
+    // Runs the task with the calling thread's tally installed, whichever thread ends up running it.
+    public static <T> Supplier<T> bind(Supplier<T> task) {
+        Tally owner = CURRENT.get();
+        return () -> {
+            Tally previous = CURRENT.get();
+            install(owner);
+            try {
+                return task.get();
+            } finally {
+                install(previous);
+            }
+        };
+    }
+
+    private static void install(Tally tally) {
+        if (tally == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(tally);
+        }
+    }
+
+    // For statements issued outside Hibernate (JdbcTemplate, COPY), which the statement inspector never sees.
+    public static <T, E extends Exception> T track(String sql, TrackedStatement<T, E> statement) throws E {
+        statementPrepared(sql);
+        long started = System.nanoTime();
+        try {
+            return statement.run();
+        } finally {
+            statementExecuted(System.nanoTime() - started);
+        }
+    }
+
+    static void statementPrepared(String sql) {
+        Tally tally = CURRENT.get();
+        if (tally != null) {
+            tally.statements++;
+            if (tally.sql.size() < MAX_RECORDED_STATEMENTS) {
+                tally.sql.add(sql);
+            }
+        }
+    }
+
+    static void statementExecuted(long nanos) {
+        Tally tally = CURRENT.get();
+        if (tally != null) {
+            tally.dbNanos += nanos;
+        }
+    }
+
+    @FunctionalInterface
+    public interface TrackedStatement<T, E extends Exception> {
+
+        T run() throws E;
+    }
+
+    private static final class Tally {
+
+        private final List<String> sql = new ArrayList<>();
+        private int statements;
+        private long dbNanos;
+
+        QueryStats toStats() {
+            return new QueryStats(statements, Duration.ofNanos(dbNanos), List.copyOf(sql));
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.luminary.ledger.persistence.tracking;
+
+import org.hibernate.BaseSessionEventListener;
+
+// Hibernate creates one listener per session, and a session is used by one thread at a time.
+public class TrackingSessionEventListener extends BaseSessionEventListener {
+
+    private long executeStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryTracker.statementExecuted(System.nanoTime() - executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        QueryTracker.statementExecuted(System.nanoTime() - executeStart);
+    }
+}
@@ -0,0 +1,13 @@
+package com.luminary.ledger.persistence.tracking;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Sees each statement once when it is prepared; a JDBC batch of inserts therefore counts once.
+public class TrackingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryTracker.statementPrepared(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,103 @@
+package com.luminary.ledger.persistence.writer;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+// Writes rows in PostgreSQL's binary COPY format: a fixed header, then per row a field count followed by
+// length-prefixed values in each type's wire representation, then a -1 trailer.
+final class BinaryCopyEncoder {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    private static final LocalDateTime POSTGRES_EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final int NUMERIC_NEGATIVE = 0x4000;
+    private static final int NUMERIC_DIGIT_LENGTH = 4;
+
+    private final DataOutputStream out;
+
+    BinaryCopyEncoder(OutputStream out) throws IOException {
+        this.out = new DataOutputStream(out);
+        this.out.write(SIGNATURE);
+        this.out.writeInt(0);
+        this.out.writeInt(0);
+    }
+
+    void startRow(int fields) throws IOException {
+        out.writeShort(fields);
+    }
+
+    void writeLong(long value) throws IOException {
+        out.writeInt(Long.BYTES);
+        out.writeLong(value);
+    }
+
+    void writeText(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // Timestamps without time zone travel as microseconds since 2000-01-01 00:00.
+    void writeTimestamp(LocalDateTime value) throws IOException {
+        out.writeInt(Long.BYTES);
+        out.writeLong(ChronoUnit.MICROS.between(POSTGRES_EPOCH, value));
+    }
+
+    // NUMERIC travels as base-10000 digits with the weight of the first one, a sign and the display scale.
+    void writeNumeric(BigDecimal value) throws IOException {
+        BigDecimal decimal = value.scale() < 0 ? value.setScale(0) : value;
+        int scale = decimal.scale();
+        String digits = decimal.unscaledValue().abs().toString();
+        int integerLength = Math.max(0, digits.length() - scale);
+        String integer = leftPad(digits.substring(0, integerLength));
+        String fraction = rightPad("0".repeat(Math.max(0, scale - digits.length())) + digits.substring(integerLength));
+        String groups = integer + fraction;
+
+        int first = 0;
+        int end = groups.length() / NUMERIC_DIGIT_LENGTH;
+        int weight = integer.length() / NUMERIC_DIGIT_LENGTH - 1;
+        while (first < end && group(groups, first) == 0) {
+            first++;
+            weight--;
+        }
+        while (end > first && group(groups, end - 1) == 0) {
+            end--;
+        }
+        int count = end - first;
+
+        out.writeInt(4 * Short.BYTES + count * Short.BYTES);
+        out.writeShort(count);
+        out.writeShort(count == 0 ? 0 : weight);
+        out.writeShort(decimal.signum() < 0 ? NUMERIC_NEGATIVE : 0);
+        out.writeShort(scale);
+        for (int i = first; i < end; i++) {
+            out.writeShort(group(groups, i));
+        }
+    }
+
+    void finish() throws IOException {
+        out.writeShort(-1);
+        out.flush();
+    }
+
+    private static int group(String groups, int index) {
+        int start = index * NUMERIC_DIGIT_LENGTH;
+        return Integer.parseInt(groups, start, start + NUMERIC_DIGIT_LENGTH, 10);
+    }
+
+    private static String leftPad(String digits) {
+        return "0".repeat(padding(digits.length())) + digits;
+    }
+
+    private static String rightPad(String digits) {
+        return digits + "0".repeat(padding(digits.length()));
+    }
+
+    private static int padding(int length) {
+        return (NUMERIC_DIGIT_LENGTH - length % NUMERIC_DIGIT_LENGTH) % NUMERIC_DIGIT_LENGTH;
+    }
+}
@@ -0,0 +1,64 @@
+package com.luminary.ledger.persistence.writer;
+
+import com.luminary.ledger.domain.model.Transaction;
+import com.luminary.ledger.domain.model.TransactionEntry;
+import com.luminary.ledger.persistence.tracking.QueryTracker;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+// Transactions and entries are immutable once written, so they are appended with two prepared-statement batches
+// (rewritten into multi-row INSERTs by the driver) and returned from the domain objects without reading back.
+@Component
+@ConditionalOnProperty(prefix = "ledger.postings", name = "writer", havingValue = "jdbc")
+public class JdbcTransactionWriter implements TransactionWriter {
+
+    static final int ID_BLOCK_SIZE = 50;
+
+    private static final String INSERT_TRANSACTION =
+            "INSERT INTO transactions (id, description, date, created_at) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_ENTRY =
+            "INSERT INTO transaction_entries (id, transaction_id, account_id, entry_type, amount, transaction_date, " +
+                    "created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceIdAllocator transactionIds;
+    private final SequenceIdAllocator entryIds;
+
+    public JdbcTransactionWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionIds = new SequenceIdAllocator(jdbcTemplate, "transactions_id_seq", ID_BLOCK_SIZE);
+        this.entryIds = new SequenceIdAllocator(jdbcTemplate, "transaction_entries_id_seq", ID_BLOCK_SIZE);
+    }
+
+    @Override
+    public List<Transaction> insertAll(List<Transaction> transactions) {
+        List<Transaction> saved = new ArrayList<>(transactions.size());
+        List<Object[]> transactionRows = new ArrayList<>(transactions.size());
+        List<Object[]> entryRows = new ArrayList<>();
+        for (Transaction transaction : transactions) {
+            long transactionId = transactionIds.next();
+            Timestamp date = Timestamp.valueOf(transaction.getDate());
+            transactionRows.add(new Object[]{transactionId, transaction.getDescription(), date,
+                    Timestamp.valueOf(transaction.getCreatedAt())});
+
+            List<TransactionEntry> entries = new ArrayList<>(transaction.getEntries().size());
+            for (TransactionEntry entry : transaction.getEntries()) {
+                long entryId = entryIds.next();
+                entryRows.add(new Object[]{entryId, transactionId, entry.getAccountId(), entry.getEntryType().name(),
+                        entry.getAmount().value(), date, Timestamp.valueOf(entry.getCreatedAt())});
+                entries.add(new TransactionEntry(entryId, entry.getAccountId(), entry.getEntryType(),
+                        entry.getAmount(), entry.getCreatedAt()));
+            }
+            saved.add(new Transaction(transactionId, transaction.getDescription(), transaction.getDate(), entries,
+                    transaction.getCreatedAt()));
+        }
+        QueryTracker.track(INSERT_TRANSACTION, () -> jdbcTemplate.batchUpdate(INSERT_TRANSACTION, transactionRows));
+        QueryTracker.track(INSERT_ENTRY, () -> jdbcTemplate.batchUpdate(INSERT_ENTRY, entryRows));
+        return saved;
+    }
+}
@@ -0,0 +1,52 @@
+package com.luminary.ledger.persistence.writer;
+
+import com.luminary.ledger.domain.model.Transaction;
+import com.luminary.ledger.domain.model.TransactionEntry;
+import com.luminary.ledger.persistence.entity.AccountEntity;
+import com.luminary.ledger.persistence.entity.TransactionEntity;
+import com.luminary.ledger.persistence.mapper.TransactionEntityMapper;
+import com.luminary.ledger.persistence.repository.AccountRepository;
+import com.luminary.ledger.persistence.repository.TransactionRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(prefix = "ledger.postings", name = "writer", havingValue = "jpa", matchIfMissing = true)
+public class JpaTransactionWriter implements TransactionWriter {
+
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionEntityMapper transactionMapper;
+
+    public JpaTransactionWriter(TransactionRepository transactionRepository,
+                                AccountRepository accountRepository,
+                                TransactionEntityMapper transactionMapper) {
+        this.transactionRepository = transactionRepository;
+        this.accountRepository = accountRepository;
+        this.transactionMapper = transactionMapper;
+    }
+
+    @Override
+    public List<Transaction> insertAll(List<Transaction> transactions) {
+        // Entries only need the foreign key, so uninitialized references avoid selecting the accounts.
+        Map<Long, AccountEntity> accountEntities = transactions.stream()
+                .flatMap(transaction -> transaction.getEntries().stream())
+                .map(TransactionEntry::getAccountId)
+                .distinct()
+                .collect(Collectors.toMap(accountId -> accountId, accountRepository::getReferenceById));
+
+        List<TransactionEntity> entities = transactions.stream()
+                .map(transaction -> transactionMapper.toEntity(transaction, accountEntities))
+                .toList();
+        List<TransactionEntity> saved = entities.size() == 1
+                ? List.of(transactionRepository.save(entities.get(0)))
+                : transactionRepository.saveAll(entities);
+        return saved.stream()
+                .map(transactionMapper::toDomain)
+                .toList();
+    }
+}
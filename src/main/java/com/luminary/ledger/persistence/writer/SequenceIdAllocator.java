@@ -0,0 +1,63 @@
+package com.luminary.ledger.persistence.writer;
+
+import com.luminary.ledger.persistence.tracking.QueryTracker;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Hands out ids from a sequence that steps by blockSize, the same way Hibernate's pooled optimizer does: a
+// sequence value v reserves (v - blockSize, v]. Both writers can therefore share the sequence without collisions.
+public class SequenceIdAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nextValueSql;
+    private final String nextValuesSql;
+    private final int blockSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Long> reserved = new ArrayDeque<>();
+    private long next;
+    private long last = -1;
+
+    public SequenceIdAllocator(JdbcTemplate jdbcTemplate, String sequenceName, int blockSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nextValueSql = "SELECT nextval('" + sequenceName + "')";
+        this.nextValuesSql = "SELECT nextval('" + sequenceName + "') FROM generate_series(1, ?)";
+        this.blockSize = blockSize;
+    }
+
+    public long next() {
+        return next(1)[0];
+    }
+
+    // Bulk loads reserve every block they are short of with a single round trip.
+    public long[] next(int count) {
+        long[] ids = new long[count];
+        lock.lock();
+        try {
+            for (int i = 0; i < count; i++) {
+                if (next > last) {
+                    if (reserved.isEmpty()) {
+                        reserve(Math.ceilDiv(count - i, blockSize));
+                    }
+                    long high = reserved.poll();
+                    next = Math.max(1, high - blockSize + 1);
+                    last = high;
+                }
+                ids[i] = next++;
+            }
+            return ids;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reserve(int blocks) {
+        if (blocks == 1) {
+            reserved.add(QueryTracker.track(nextValueSql, () -> jdbcTemplate.queryForObject(nextValueSql, Long.class)));
+        } else {
+            reserved.addAll(QueryTracker.track(nextValuesSql,
+                    () -> jdbcTemplate.queryForList(nextValuesSql, Long.class, blocks)));
+        }
+    }
+}
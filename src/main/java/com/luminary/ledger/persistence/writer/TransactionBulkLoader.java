@@ -0,0 +1,121 @@
+package com.luminary.ledger.persistence.writer;
+
+import com.luminary.ledger.domain.model.Transaction;
+import com.luminary.ledger.domain.model.TransactionEntry;
+import com.luminary.ledger.persistence.tracking.QueryTracker;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Bulk loads stream transactions and entries through binary COPY on the caller's connection, so the server skips
+// statement parsing and per-row round trips. Ids are reserved up front, letting entries reference their transaction.
+@Component
+public class TransactionBulkLoader {
+
+    static final int ID_BLOCK_SIZE = 50;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String COPY_TRANSACTIONS =
+            "COPY transactions (id, description, date, created_at) FROM STDIN (FORMAT binary)";
+    private static final String COPY_ENTRIES =
+            "COPY transaction_entries (id, transaction_id, account_id, entry_type, amount, transaction_date, " +
+                    "created_at) FROM STDIN (FORMAT binary)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceIdAllocator transactionIds;
+    private final SequenceIdAllocator entryIds;
+
+    public TransactionBulkLoader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionIds = new SequenceIdAllocator(jdbcTemplate, "transactions_id_seq", ID_BLOCK_SIZE);
+        this.entryIds = new SequenceIdAllocator(jdbcTemplate, "transaction_entries_id_seq", ID_BLOCK_SIZE);
+    }
+
+    // Same contract as TransactionWriter.insertAll, for postings large enough to amortize the two COPY round trips.
+    public List<Transaction> load(List<Transaction> transactions) {
+        List<Transaction> saved = withIds(transactions);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            copy(copyManager, COPY_TRANSACTIONS, encoder -> {
+                for (Transaction transaction : saved) {
+                    encoder.startRow(4);
+                    encoder.writeLong(transaction.getId());
+                    encoder.writeText(transaction.getDescription());
+                    encoder.writeTimestamp(transaction.getDate());
+                    encoder.writeTimestamp(transaction.getCreatedAt());
+                }
+            });
+            copy(copyManager, COPY_ENTRIES, encoder -> {
+                for (Transaction transaction : saved) {
+                    for (TransactionEntry entry : transaction.getEntries()) {
+                        encoder.startRow(7);
+                        encoder.writeLong(entry.getId());
+                        encoder.writeLong(transaction.getId());
+                        encoder.writeLong(entry.getAccountId());
+                        encoder.writeText(entry.getEntryType().name());
+                        encoder.writeNumeric(entry.getAmount().value());
+                        encoder.writeTimestamp(transaction.getDate());
+                        encoder.writeTimestamp(entry.getCreatedAt());
+                    }
+                }
+            });
+            return null;
+        });
+        return saved;
+    }
+
+    private List<Transaction> withIds(List<Transaction> transactions) {
+        int entryCount = transactions.stream().mapToInt(transaction -> transaction.getEntries().size()).sum();
+        long[] transactionIdBlock = transactionIds.next(transactions.size());
+        long[] entryIdBlock = entryIds.next(entryCount);
+
+        List<Transaction> saved = new ArrayList<>(transactions.size());
+        int nextEntry = 0;
+        for (int t = 0; t < transactions.size(); t++) {
+            Transaction transaction = transactions.get(t);
+            List<TransactionEntry> entries = new ArrayList<>(transaction.getEntries().size());
+            for (TransactionEntry entry : transaction.getEntries()) {
+                entries.add(new TransactionEntry(entryIdBlock[nextEntry++], entry.getAccountId(), entry.getEntryType(),
+                        entry.getAmount(), entry.getCreatedAt()));
+            }
+            saved.add(new Transaction(transactionIdBlock[t], transaction.getDescription(), transaction.getDate(),
+                    entries, transaction.getCreatedAt()));
+        }
+        return saved;
+    }
+
+    private static void copy(CopyManager copyManager, String sql, RowWriter rows) throws SQLException {
+        QueryTracker.track(sql, () -> copyIn(copyManager, sql, rows));
+    }
+
+    private static long copyIn(CopyManager copyManager, String sql, RowWriter rows) throws SQLException {
+        PGCopyOutputStream stream = new PGCopyOutputStream(copyManager.copyIn(sql), BUFFER_SIZE);
+        try {
+            BinaryCopyEncoder encoder = new BinaryCopyEncoder(stream);
+            rows.write(encoder);
+            encoder.finish();
+            return stream.endCopy();
+        } catch (IOException ex) {
+            // The driver reports server-side failures mid-stream as IOExceptions wrapping the SQLException.
+            throw ex.getCause() instanceof SQLException cause ? cause : new SQLException("COPY failed", ex);
+        } finally {
+            if (stream.isActive()) {
+                stream.cancelCopy();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+
+        void write(BinaryCopyEncoder encoder) throws IOException;
+    }
+}
@@ -0,0 +1,11 @@
+package com.luminary.ledger.persistence.writer;
+
+import com.luminary.ledger.domain.model.Transaction;
+
+import java.util.List;
+
+// Appends new transactions with their entries inside the caller's database transaction and returns them with ids.
+public interface TransactionWriter {
+
+    List<Transaction> insertAll(List<Transaction> transactions);
+}
@@ -0,0 +1,59 @@
+package com.luminary.ledger.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.luminary.ledger.domain.model.Account;
+import com.luminary.ledger.persistence.entity.AccountEntity;
+import com.luminary.ledger.persistence.mapper.AccountEntityMapper;
+import com.luminary.ledger.persistence.repository.AccountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Accounts cannot be renamed, retyped or deleted; only their balance shard count can grow. The instance that reshards
+// evicts its entry, and the TTL bounds how long other instances keep posting to the old shards.
+@Component
+public class AccountCache {
+
+    private final AccountRepository accountRepository;
+    private final AccountEntityMapper accountMapper;
+    private final Cache<Long, Account> cache;
+
+    public AccountCache(AccountRepository accountRepository,
+                        AccountEntityMapper accountMapper,
+                        MeterRegistry meterRegistry,
+                        @Value("${ledger.accounts.cache.maximum-size:100000}") long maximumSize,
+                        @Value("${ledger.accounts.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.accountRepository = accountRepository;
+        this.accountMapper = accountMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "accounts");
+    }
+
+    public Map<Long, Account> getAll(Collection<Long> accountIds) {
+        return cache.getAll(accountIds, missing -> accountRepository.findAllById(List.copyOf(missing)).stream()
+                .collect(Collectors.toMap(AccountEntity::getId, accountMapper::toDomain)));
+    }
+
+    public void evictAfterCommit(Long accountId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(accountId);
+            }
+        });
+    }
+}
@@ -7,34 +7,70 @@ import com.luminary.ledger.domain.model.Account;
 import com.luminary.ledger.domain.vo.AccountName;
 import com.luminary.ledger.persistence.entity.AccountEntity;
 import com.luminary.ledger.persistence.mapper.AccountEntityMapper;
+import com.luminary.ledger.persistence.repository.AccountBalanceRepository;
 import com.luminary.ledger.persistence.repository.AccountRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 public class AccountService {
 
     private final AccountRepository accountRepository;
+    private final AccountBalanceRepository balanceRepository;
     private final AccountEntityMapper accountMapper;
+    private final AccountCache accountCache;
 
-    public AccountService(AccountRepository accountRepository, AccountEntityMapper accountMapper) {
+    public AccountService(AccountRepository accountRepository,
+                          AccountBalanceRepository balanceRepository,
+                          AccountEntityMapper accountMapper,
+                          AccountCache accountCache) {
         this.accountRepository = accountRepository;
+        this.balanceRepository = balanceRepository;
         this.accountMapper = accountMapper;
+        this.accountCache = accountCache;
     }
 
     @Transactional
     public Account createAccount(AccountName name, AccountType type) {
+        return createAccount(name, type, 1);
+    }
+
+    @Transactional
+    public Account createAccount(AccountName name, AccountType type, int balanceShards) {
         if (accountRepository.existsByName(name.value())) {
             throw new DuplicateAccountNameException(name.value());
         }
 
-        Account account = Account.create(name, type);
+        Account account = Account.create(name, type, balanceShards);
         AccountEntity saved = accountRepository.save(accountMapper.toEntity(account));
+        balanceRepository.initialize(saved.getId(), balanceShards);
         return accountMapper.toDomain(saved);
     }
 
+    // New shard rows start at zero, so the balance and its version are unchanged. Shards are never removed: a
+    // posting still in flight on another instance may be writing to any of them.
+    @Transactional
+    public Account increaseBalanceShards(Long id, int balanceShards) {
+        AccountEntity entity = accountRepository.findById(id)
+                .orElseThrow(() -> new AccountNotFoundException(id));
+        if (balanceShards < entity.getBalanceShards()) {
+            throw new IllegalArgumentException("Balance shards cannot be reduced from " + entity.getBalanceShards()
+                    + " to " + balanceShards);
+        }
+        if (balanceShards > Account.MAX_BALANCE_SHARDS) {
+            throw new IllegalArgumentException("Balance shards must be between 1 and " + Account.MAX_BALANCE_SHARDS);
+        }
+        entity.setBalanceShards(balanceShards);
+        entity.setUpdatedAt(LocalDateTime.now());
+        balanceRepository.initialize(id, balanceShards);
+        accountCache.evictAfterCommit(id);
+        return accountMapper.toDomain(accountRepository.save(entity));
+    }
+
     @Transactional(readOnly = true)
     public Account getAccount(Long id) {
         AccountEntity entity = accountRepository.findById(id)
@@ -0,0 +1,26 @@
+package com.luminary.ledger.service;
+
+import com.luminary.ledger.domain.vo.BalanceTotals;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
+public interface BalanceCache {
+
+    CachedBalance getVersioned(Long accountId, Function<Long, CachedBalance> loader);
+
+    default BalanceTotals get(Long accountId, Function<Long, CachedBalance> loader) {
+        CachedBalance balance = getVersioned(accountId, loader);
+        return balance == null ? null : balance.totals();
+    }
+
+    void putAllAfterCommit(Map<Long, CachedBalance> balances);
+
+    void evictAllAfterCommit(Collection<Long> accountIds);
+
+    void evict(Long accountId);
+
+    record CachedBalance(BalanceTotals totals, long version) {
+    }
+}
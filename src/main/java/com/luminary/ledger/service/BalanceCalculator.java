@@ -1,30 +1,115 @@
 package com.luminary.ledger.service;
 
 import com.luminary.ledger.domain.enums.AccountType;
-import com.luminary.ledger.domain.enums.EntryType;
-import com.luminary.ledger.domain.vo.Money;
+import com.luminary.ledger.domain.model.Account;
+import com.luminary.ledger.domain.vo.BalanceTotals;
+import com.luminary.ledger.domain.vo.BalanceVersion;
+import com.luminary.ledger.persistence.entity.AccountBalanceEntity;
+import com.luminary.ledger.persistence.repository.AccountBalanceRepository;
+import com.luminary.ledger.persistence.repository.AccountBalanceSnapshotRepository;
 import com.luminary.ledger.persistence.repository.TransactionEntryRepository;
+import com.luminary.ledger.persistence.repository.TransactionEntryRepository.EntryTotals;
+import com.luminary.ledger.service.BalanceCache.CachedBalance;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 public class BalanceCalculator {
 
+    private final AccountBalanceRepository balanceRepository;
+    private final AccountBalanceSnapshotRepository snapshotRepository;
     private final TransactionEntryRepository entryRepository;
+    private final BalanceCache balanceCache;
 
-    public BalanceCalculator(TransactionEntryRepository entryRepository) {
+    public BalanceCalculator(AccountBalanceRepository balanceRepository,
+                             AccountBalanceSnapshotRepository snapshotRepository,
+                             TransactionEntryRepository entryRepository,
+                             BalanceCache balanceCache) {
+        this.balanceRepository = balanceRepository;
+        this.snapshotRepository = snapshotRepository;
         this.entryRepository = entryRepository;
+        this.balanceCache = balanceCache;
     }
 
+    // Every account gets its balance rows at creation and every posting updates them, so a missing row means nothing
+    // was posted; the reconciliation job, not the read path, is what compares the rows against the journal.
+    @Timed(value = "ledger.balances.query", description = "Balance query latency", histogram = true)
     public BigDecimal calculateBalance(Long accountId, AccountType accountType) {
-        BigDecimal debits = entryRepository.sumByAccountIdAndEntryType(accountId, EntryType.DEBIT);
-        BigDecimal credits = entryRepository.sumByAccountIdAndEntryType(accountId, EntryType.CREDIT);
+        BalanceTotals totals = balanceCache.get(accountId, this::loadBalance);
+        return (totals == null ? BalanceTotals.ZERO : totals).balanceFor(accountType);
+    }
+
+    // Served from the cache, so with several instances the version can trail the balance row by up to the TTL.
+    @Timed(value = "ledger.balances.query", description = "Balance query latency", histogram = true)
+    public VersionedBalance calculateVersionedBalance(Long accountId, AccountType accountType) {
+        return toVersionedBalance(accountId, accountType, balanceCache.getVersioned(accountId, this::loadBalance));
+    }
+
+    // For revalidation: reads the balance row itself, bypassing the cache.
+    @Timed(value = "ledger.balances.query", description = "Balance query latency", histogram = true)
+    public VersionedBalance calculateCurrentVersionedBalance(Long accountId, AccountType accountType) {
+        return toVersionedBalance(accountId, accountType, loadBalance(accountId));
+    }
+
+    @Timed(value = "ledger.balances.query", description = "Balance query latency", histogram = true)
+    public BigDecimal calculateBalanceAsOf(Long accountId, AccountType accountType, LocalDateTime asOf) {
+        BalanceTotals totals = snapshotRepository
+                .findFirstByAccountIdAndAsOfLessThanEqualOrderByAsOfDesc(accountId, asOf)
+                .map(snapshot -> BalanceTotals.of(snapshot.getDebitTotal(), snapshot.getCreditTotal())
+                        .plus(toTotals(entryRepository.sumTotalsByAccountIdBetween(
+                                accountId, snapshot.getAsOf(), asOf))))
+                .orElseGet(() -> toTotals(entryRepository.sumTotalsByAccountIdUpTo(accountId, asOf)));
+        return totals.balanceFor(accountType);
+    }
+
+    @Timed(value = "ledger.balances.query", description = "Balance query latency", histogram = true)
+    public Map<Long, BigDecimal> calculateBalances(Collection<Account> accounts) {
+        if (accounts.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> accountIds = accounts.stream().map(Account::getId).toList();
+        Map<Long, BalanceTotals> totals = balanceRepository.findAllById(accountIds).stream()
+                .collect(Collectors.toMap(AccountBalanceEntity::getAccountId, this::toTotals));
+
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        for (Account account : accounts) {
+            BalanceTotals accountTotals = totals.getOrDefault(account.getId(), BalanceTotals.ZERO);
+            balances.put(account.getId(), accountTotals.balanceFor(account.getType()));
+        }
+        return balances;
+    }
 
-        if (accountType.isDebitNormal()) {
-            return debits.subtract(credits);
-        } else {
-            return credits.subtract(debits);
+    private CachedBalance loadBalance(Long accountId) {
+        return balanceRepository.findById(accountId)
+                .map(entity -> new CachedBalance(toTotals(entity), entity.getVersion()))
+                .orElse(null);
+    }
+
+    // No row reads as version 0, which conditional postings accept too.
+    private VersionedBalance toVersionedBalance(Long accountId, AccountType accountType, CachedBalance balance) {
+        if (balance == null) {
+            balance = new CachedBalance(BalanceTotals.ZERO, 0);
         }
+        return new VersionedBalance(balance.totals().balanceFor(accountType),
+                BalanceVersion.of(accountId, balance.version()));
+    }
+
+    private BalanceTotals toTotals(EntryTotals totals) {
+        return BalanceTotals.of(totals.getDebitTotal(), totals.getCreditTotal());
+    }
+
+    private BalanceTotals toTotals(AccountBalanceEntity entity) {
+        return BalanceTotals.of(entity.getDebitTotal(), entity.getCreditTotal());
+    }
+
+    public record VersionedBalance(BigDecimal balance, BalanceVersion version) {
     }
 }
@@ -0,0 +1,42 @@
+package com.luminary.ledger.service;
+
+import com.luminary.ledger.persistence.repository.AccountBalanceRepository;
+import com.luminary.ledger.persistence.repository.AccountBalanceRepository.BalanceDiscrepancy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(prefix = "ledger.balances.reconciliation", name = "enabled", havingValue = "true")
+public class BalanceReconciliationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceReconciliationJob.class);
+
+    private final AccountBalanceRepository balanceRepository;
+
+    public BalanceReconciliationJob(AccountBalanceRepository balanceRepository) {
+        this.balanceRepository = balanceRepository;
+    }
+
+    @Scheduled(cron = "${ledger.balances.reconciliation.cron}")
+    @Transactional(readOnly = true)
+    public List<BalanceDiscrepancy> reconcile() {
+        List<BalanceDiscrepancy> discrepancies = balanceRepository.findDiscrepancies();
+        if (discrepancies.isEmpty()) {
+            log.info("Balance reconciliation finished: materialized totals match journal entries");
+            return discrepancies;
+        }
+        for (BalanceDiscrepancy d : discrepancies) {
+            log.error("Balance mismatch for account {}: materialized debits={} credits={}, entries debits={} credits={}",
+                    d.getAccountId(), d.getMaterializedDebits(), d.getMaterializedCredits(),
+                    d.getEntryDebits(), d.getEntryCredits());
+        }
+        log.error("Balance reconciliation finished: {} account(s) out of sync", discrepancies.size());
+        return discrepancies;
+    }
+}
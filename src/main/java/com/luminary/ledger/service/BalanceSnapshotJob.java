@@ -0,0 +1,60 @@
+package com.luminary.ledger.service;
+
+import com.luminary.ledger.persistence.repository.AccountBalanceSnapshotRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(prefix = "ledger.balances.snapshots", name = "enabled", havingValue = "true")
+public class BalanceSnapshotJob {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceSnapshotJob.class);
+
+    private final AccountBalanceSnapshotRepository snapshotRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public BalanceSnapshotJob(AccountBalanceSnapshotRepository snapshotRepository,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${ledger.balances.snapshots.batch-size:500}") int batchSize) {
+        this.snapshotRepository = snapshotRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${ledger.balances.snapshots.cron}")
+    public void snapshotDaily() {
+        snapshot(LocalDate.now().atStartOfDay());
+    }
+
+    public int snapshot(LocalDateTime asOf) {
+        int total = 0;
+        long afterAccountId = 0;
+        while (true) {
+            long after = afterAccountId;
+            List<Long> accountIds = transactionTemplate.execute(status -> {
+                List<Long> ids = snapshotRepository.lockNextAccountIds(after, batchSize);
+                if (!ids.isEmpty()) {
+                    snapshotRepository.snapshot(ids, asOf);
+                }
+                return ids;
+            });
+            if (accountIds.isEmpty()) {
+                break;
+            }
+            total += accountIds.size();
+            afterAccountId = accountIds.get(accountIds.size() - 1);
+        }
+        log.info("Balance snapshot as of {} written for {} account(s)", asOf, total);
+        return total;
+    }
+}
@@ -0,0 +1,84 @@
+package com.luminary.ledger.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
+@Component
+@ConditionalOnProperty(prefix = "ledger.balances.cache", name = "enabled", havingValue = "true")
+public class CaffeineBalanceCache implements BalanceCache {
+
+    private final Cache<Long, CachedBalance> cache;
+
+    public CaffeineBalanceCache(MeterRegistry meterRegistry,
+                                @Value("${ledger.balances.cache.maximum-size:100000}") long maximumSize,
+                                @Value("${ledger.balances.cache.expire-after-write:30s}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "balances");
+    }
+
+    @Override
+    public CachedBalance getVersioned(Long accountId, Function<Long, CachedBalance> loader) {
+        return cache.get(accountId, loader);
+    }
+
+    @Override
+    public void putAllAfterCommit(Map<Long, CachedBalance> balances) {
+        if (balances.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            balances.forEach(this::put);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                balances.forEach(CaffeineBalanceCache.this::put);
+            }
+        });
+    }
+
+    @Override
+    public void evictAllAfterCommit(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidateAll(accountIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidateAll(accountIds);
+            }
+        });
+    }
+
+    @Override
+    public void evict(Long accountId) {
+        cache.invalidate(accountId);
+    }
+
+    void put(Long accountId, CachedBalance balance) {
+        // Commits can complete out of order; never replace a newer balance with an older one.
+        cache.asMap().merge(accountId, balance,
+                (current, updated) -> updated.version() > current.version() ? updated : current);
+    }
+}
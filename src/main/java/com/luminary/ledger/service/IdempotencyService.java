@@ -0,0 +1,135 @@
+package com.luminary.ledger.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.luminary.ledger.domain.exception.IdempotencyKeyReuseException;
+import com.luminary.ledger.domain.model.Transaction;
+import com.luminary.ledger.domain.vo.BalanceVersion;
+import com.luminary.ledger.domain.vo.IdempotencyKey;
+import com.luminary.ledger.persistence.repository.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+@Service
+public class IdempotencyService {
+
+    private final TransactionService transactionService;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final Cache<String, StoredPosting> completed;
+    private final ConcurrentMap<String, Claim> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(TransactionService transactionService,
+                              IdempotencyKeyRepository idempotencyKeyRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${ledger.idempotency.cache.maximum-size:100000}") long maximumSize,
+                              @Value("${ledger.idempotency.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.transactionService = transactionService;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, completed, "idempotency-keys");
+    }
+
+    public IdempotentResult createTransaction(IdempotencyKey key, Supplier<Transaction> request) {
+        return createTransaction(key, List.of(), request);
+    }
+
+    // The request is only mapped and validated when the key has not been seen before; a replay ignores the
+    // preconditions because the original posting already satisfied them. Every replay path compares request hashes,
+    // so a key reused with a different request is rejected instead of returning the unrelated original.
+    public IdempotentResult createTransaction(IdempotencyKey key, Collection<BalanceVersion> expectedVersions,
+                                              Supplier<Transaction> request) {
+        StoredPosting stored = completed.getIfPresent(key.value());
+        if (stored != null) {
+            checkSameRequest(key, stored.requestHash());
+            return new IdempotentResult(stored.load(transactionService), true);
+        }
+
+        Claim claim = new Claim(key.requestHash(), new CompletableFuture<>());
+        Claim owner = inFlight.putIfAbsent(key.value(), claim);
+        if (owner != null) {
+            checkSameRequest(key, owner.requestHash());
+            return new IdempotentResult(await(owner.result()), true);
+        }
+        try {
+            IdempotentResult result = replay(key).orElseGet(() -> create(key, expectedVersions, request));
+            completed.put(key.value(), new StoredPosting(result.transaction().getId(),
+                    result.transaction().getDate(), key.requestHash()));
+            claim.result().complete(result.transaction());
+            return result;
+        } catch (RuntimeException ex) {
+            claim.result().completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key.value(), claim);
+        }
+    }
+
+    private IdempotentResult create(IdempotencyKey key, Collection<BalanceVersion> expectedVersions,
+                                    Supplier<Transaction> request) {
+        try {
+            return new IdempotentResult(
+                    transactionService.createTransaction(request.get(), key, expectedVersions), false);
+        } catch (DataIntegrityViolationException ex) {
+            // Another instance committed the same key first.
+            return replay(key).orElseThrow(() -> ex);
+        }
+    }
+
+    private Optional<IdempotentResult> replay(IdempotencyKey key) {
+        return idempotencyKeyRepository.findById(key.value())
+                .map(stored -> {
+                    checkSameRequest(key, stored.getRequestHash());
+                    return new IdempotentResult(transactionService.getTransaction(
+                            stored.getTransactionId(), stored.getTransactionDate()), true);
+                });
+    }
+
+    private static void checkSameRequest(IdempotencyKey key, String storedRequestHash) {
+        if (!key.matches(storedRequestHash)) {
+            throw new IdempotencyKeyReuseException(key.value());
+        }
+    }
+
+    private Transaction await(CompletableFuture<Transaction> owner) {
+        try {
+            return owner.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    public record IdempotentResult(Transaction transaction, boolean replayed) {
+    }
+
+    private record Claim(String requestHash, CompletableFuture<Transaction> result) {
+    }
+
+    // The date is kept with the id so a replay reads only the partitions of the posting's month.
+    private record StoredPosting(Long transactionId, LocalDateTime transactionDate, String requestHash) {
+
+        Transaction load(TransactionService transactionService) {
+            return transactionService.getTransaction(transactionId, transactionDate);
+        }
+    }
+}
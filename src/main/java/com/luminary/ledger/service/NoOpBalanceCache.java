@@ -0,0 +1,30 @@
+package com.luminary.ledger.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
+@Component
+@ConditionalOnProperty(prefix = "ledger.balances.cache", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class NoOpBalanceCache implements BalanceCache {
+
+    @Override
+    public CachedBalance getVersioned(Long accountId, Function<Long, CachedBalance> loader) {
+        return loader.apply(accountId);
+    }
+
+    @Override
+    public void putAllAfterCommit(Map<Long, CachedBalance> balances) {
+    }
+
+    @Override
+    public void evictAllAfterCommit(Collection<Long> accountIds) {
+    }
+
+    @Override
+    public void evict(Long accountId) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.luminary.ledger.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+@Component
+@ConditionalOnProperty(prefix = "ledger.partitions", name = "enabled", havingValue = "true")
+public class PartitionMaintenanceJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionMaintenanceJob.class);
+
+    private static final String CREATE_PARTITIONS = "SELECT create_ledger_partitions(CAST(? AS DATE))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+
+    public PartitionMaintenanceJob(JdbcTemplate jdbcTemplate,
+                                   @Value("${ledger.partitions.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+    }
+
+    // Also runs at startup, so a deployment that was down past the horizon catches up before postings arrive.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${ledger.partitions.cron}")
+    public void createUpcomingPartitions() {
+        createPartitions(YearMonth.now());
+    }
+
+    public int createPartitions(YearMonth from) {
+        int created = 0;
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = from.plusMonths(i);
+            try {
+                created += jdbcTemplate.queryForObject(CREATE_PARTITIONS, Integer.class, month.atDay(1).toString());
+            } catch (DataAccessException ex) {
+                // E.g. a lock timeout while moving the month's rows out of the default partition; the next run retries.
+                log.error("Could not create ledger partitions for {}", month, ex);
+            }
+        }
+        log.info("Ledger partitions ensured through {}: {} created", from.plusMonths(monthsAhead), created);
+        return created;
+    }
+}
@@ -0,0 +1,204 @@
+package com.luminary.ledger.service;
+
+import com.luminary.ledger.domain.model.Transaction;
+import com.luminary.ledger.persistence.tracking.QueryTracker;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// Balance rows hash onto a fixed set of stripes. A posting queues on one of its stripes and whichever caller holds that
+// stripe's combiner lock writes every queued posting in one database transaction, taking the stripe locks of all
+// rows involved in ascending order first, so writers never wait on each other's balance rows while holding a
+// connection and never deadlock.
+@Component
+public class PostingCoordinator {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxGroupSize;
+    private final ReentrantLock[] stripeLocks;
+    private final ReentrantLock[] combinerLocks;
+    private final List<Queue<PendingPosting>> queues;
+    private final AtomicInteger[] queued;
+    private final Timer queueTimer;
+    private final DistributionSummary groupSize;
+
+    public PostingCoordinator(TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${ledger.postings.stripes:64}") int stripes,
+                              @Value("${ledger.postings.max-group-size:64}") int maxGroupSize) {
+        if (stripes < 1 || maxGroupSize < 1) {
+            throw new IllegalArgumentException("Posting stripes and max group size must be positive");
+        }
+        this.transactionTemplate = transactionTemplate;
+        this.maxGroupSize = maxGroupSize;
+        this.stripeLocks = new ReentrantLock[stripes];
+        this.combinerLocks = new ReentrantLock[stripes];
+        this.queues = new ArrayList<>(stripes);
+        this.queued = new AtomicInteger[stripes];
+        for (int i = 0; i < stripes; i++) {
+            stripeLocks[i] = new ReentrantLock();
+            combinerLocks[i] = new ReentrantLock();
+            queues.add(new ConcurrentLinkedQueue<>());
+            queued[i] = new AtomicInteger();
+        }
+        this.queueTimer = Timer.builder("ledger.postings.queue.time")
+                .description("Time a posting waits before its database transaction starts")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.groupSize = DistributionSummary.builder("ledger.postings.group.size")
+                .description("Postings committed together in one database transaction")
+                .register(meterRegistry);
+    }
+
+    // Lock keys identify the balance rows a posting updates; postings sharing a key never write concurrently.
+    public List<Transaction> post(Collection<?> lockKeys, Supplier<List<Transaction>> writer) {
+        // A caller that already owns a transaction (e.g. an import chunk) must commit the posting itself.
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return writer.get();
+        }
+        // Another caller's thread may run the writer; its statements still count toward this caller's request.
+        PendingPosting posting = new PendingPosting(QueryTracker.bind(writer), stripesOf(lockKeys), System.nanoTime());
+        int home = homeStripe(posting.stripes());
+        queued[home].incrementAndGet();
+        queues.get(home).add(posting);
+
+        ReentrantLock combiner = combinerLocks[home];
+        combiner.lock();
+        try {
+            // Only this stripe's combiner drains its queue, so the posting is either done or still queued. The lock is
+            // not fair: a later caller can get here first with more than one group queued ahead of its own posting.
+            while (!posting.done) {
+                write(drain(home));
+            }
+        } finally {
+            combiner.unlock();
+        }
+        return posting.result();
+    }
+
+    private SortedSet<Integer> stripesOf(Collection<?> lockKeys) {
+        SortedSet<Integer> stripes = new TreeSet<>();
+        for (Object key : lockKeys) {
+            stripes.add(Math.floorMod(key.hashCode(), stripeLocks.length));
+        }
+        return stripes;
+    }
+
+    // Join the busiest stripe so concurrent postings to a hot account end up in the same group.
+    private int homeStripe(SortedSet<Integer> stripes) {
+        int home = stripes.first();
+        for (int stripe : stripes) {
+            if (queued[stripe].get() > queued[home].get()) {
+                home = stripe;
+            }
+        }
+        return home;
+    }
+
+    private List<PendingPosting> drain(int stripe) {
+        List<PendingPosting> group = new ArrayList<>();
+        PendingPosting next;
+        while (group.size() < maxGroupSize && (next = queues.get(stripe).poll()) != null) {
+            queued[stripe].decrementAndGet();
+            group.add(next);
+        }
+        return group;
+    }
+
+    private void write(List<PendingPosting> group) {
+        SortedSet<Integer> stripes = new TreeSet<>();
+        group.forEach(posting -> stripes.addAll(posting.stripes()));
+        List<ReentrantLock> held = new ArrayList<>(stripes.size());
+        try {
+            for (int stripe : stripes) {
+                stripeLocks[stripe].lock();
+                held.add(stripeLocks[stripe]);
+            }
+            long started = System.nanoTime();
+            group.forEach(posting -> queueTimer.record(started - posting.enqueuedAt(), TimeUnit.NANOSECONDS));
+            groupSize.record(group.size());
+            try {
+                List<List<Transaction>> results = transactionTemplate.execute(status -> group.stream()
+                        .map(posting -> posting.writer().get())
+                        .toList());
+                for (int i = 0; i < group.size(); i++) {
+                    group.get(i).complete(results.get(i), null);
+                }
+            } catch (RuntimeException ex) {
+                if (group.size() == 1) {
+                    group.get(0).complete(null, ex);
+                    return;
+                }
+                // One bad posting must not fail the others it happened to be grouped with.
+                group.forEach(this::writeAlone);
+            }
+        } finally {
+            held.forEach(ReentrantLock::unlock);
+        }
+    }
+
+    private void writeAlone(PendingPosting posting) {
+        try {
+            posting.complete(transactionTemplate.execute(status -> posting.writer().get()), null);
+        } catch (RuntimeException ex) {
+            posting.complete(null, ex);
+        }
+    }
+
+    private static final class PendingPosting {
+
+        private final Supplier<List<Transaction>> writer;
+        private final SortedSet<Integer> stripes;
+        private final long enqueuedAt;
+        private volatile boolean done;
+        private List<Transaction> saved;
+        private RuntimeException failure;
+
+        private PendingPosting(Supplier<List<Transaction>> writer, SortedSet<Integer> stripes, long enqueuedAt) {
+            this.writer = writer;
+            this.stripes = stripes;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        Supplier<List<Transaction>> writer() {
+            return writer;
+        }
+
+        SortedSet<Integer> stripes() {
+            return stripes;
+        }
+
+        long enqueuedAt() {
+            return enqueuedAt;
+        }
+
+        void complete(List<Transaction> saved, RuntimeException failure) {
+            this.saved = saved;
+            this.failure = failure;
+            this.done = true;
+        }
+
+        List<Transaction> result() {
+            if (failure != null) {
+                throw failure;
+            }
+            return saved;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.luminary.ledger.service;
+
+import com.luminary.ledger.domain.exception.AccountNotFoundException;
+import com.luminary.ledger.domain.model.Account;
+import com.luminary.ledger.domain.model.Transaction;
+import com.luminary.ledger.domain.vo.BalanceTotals;
+import com.luminary.ledger.domain.vo.TransactionCursor;
+import com.luminary.ledger.persistence.reactive.ReactiveAccountRepository;
+import com.luminary.ledger.persistence.reactive.ReactiveBalanceRepository;
+import com.luminary.ledger.persistence.reactive.ReactiveTransactionHistoryRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Service
+@ConditionalOnProperty(prefix = "ledger.reactive", name = "enabled", havingValue = "true")
+public class ReactiveLedgerQueryService {
+
+    private final ReactiveAccountRepository accountRepository;
+    private final ReactiveBalanceRepository balanceRepository;
+    private final ReactiveTransactionHistoryRepository historyRepository;
+
+    public ReactiveLedgerQueryService(ReactiveAccountRepository accountRepository,
+                                      ReactiveBalanceRepository balanceRepository,
+                                      ReactiveTransactionHistoryRepository historyRepository) {
+        this.accountRepository = accountRepository;
+        this.balanceRepository = balanceRepository;
+        this.historyRepository = historyRepository;
+    }
+
+    public Mono<Account> getAccount(Long id) {
+        return accountRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new AccountNotFoundException(id)));
+    }
+
+    public Mono<BigDecimal> getBalance(Account account) {
+        return balanceRepository.findTotals(account.getId())
+                .defaultIfEmpty(BalanceTotals.ZERO)
+                .map(totals -> totals.balanceFor(account.getType()));
+    }
+
+    public Mono<Slice<Transaction>> getTransactionsByAccountId(Long accountId, TransactionCursor after, int size) {
+        return getAccount(accountId)
+                .thenMany(Flux.defer(() -> historyRepository.findPage(accountId, after, size + 1)))
+                .collectList()
+                .map(transactions -> {
+                    boolean hasNext = transactions.size() > size;
+                    List<Transaction> content = hasNext ? transactions.subList(0, size) : transactions;
+                    return new SliceImpl<>(content, Pageable.ofSize(size), hasNext);
+                });
+    }
+}
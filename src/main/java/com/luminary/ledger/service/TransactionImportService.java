@@ -0,0 +1,191 @@
+package com.luminary.ledger.service;
+
+import com.luminary.ledger.domain.enums.ImportFormat;
+import com.luminary.ledger.domain.enums.ImportStatus;
+import com.luminary.ledger.domain.exception.ImportJobConflictException;
+import com.luminary.ledger.domain.exception.ImportJobNotFoundException;
+import com.luminary.ledger.domain.model.ImportJob;
+import com.luminary.ledger.domain.model.Transaction;
+import com.luminary.ledger.persistence.entity.ImportJobEntity;
+import com.luminary.ledger.persistence.mapper.ImportJobEntityMapper;
+import com.luminary.ledger.persistence.repository.ImportJobRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Service
+public class TransactionImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionImportService.class);
+
+    private static final Duration STALE_RUNNING_JOB = Duration.ofMinutes(5);
+    private static final int MAX_FAILURE_REASON_LENGTH = 1000;
+
+    private final TransactionService transactionService;
+    private final ImportJobRepository importJobRepository;
+    private final ImportJobEntityMapper importJobMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int queueCapacity;
+    private final ExecutorService parserExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "ledger-import-parser");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TransactionImportService(TransactionService transactionService,
+                                    ImportJobRepository importJobRepository,
+                                    ImportJobEntityMapper importJobMapper,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${ledger.import.chunk-size:500}") int chunkSize,
+                                    @Value("${ledger.import.queue-capacity:4}") int queueCapacity) {
+        this.transactionService = transactionService;
+        this.importJobRepository = importJobRepository;
+        this.importJobMapper = importJobMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.queueCapacity = queueCapacity;
+    }
+
+    public ImportJob startImport(ImportFormat format, TransactionRecordSource source) {
+        ImportJobEntity job = importJobRepository.save(importJobMapper.toEntity(ImportJob.start(format)));
+        return run(job.getId(), 0, job.getUpdatedAt(), source);
+    }
+
+    public ImportJob resumeImport(Long jobId, TransactionRecordSource source) {
+        ImportJob job = getImportJob(jobId);
+        LocalDateTime now = heartbeat();
+        int claimed = transactionTemplate.execute(status -> importJobRepository.claimForResume(
+                jobId, job.getUpdatedAt(), job.getCommittedOffset(), now, now.minus(STALE_RUNNING_JOB)));
+        if (claimed == 0) {
+            throw new ImportJobConflictException(jobId);
+        }
+        return run(jobId, job.getCommittedOffset(), now, source);
+    }
+
+    public ImportJob getImportJob(Long jobId) {
+        return importJobRepository.findById(jobId)
+                .map(importJobMapper::toDomain)
+                .orElseThrow(() -> new ImportJobNotFoundException(jobId));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        parserExecutor.shutdownNow();
+    }
+
+    private ImportJob run(Long jobId, long startOffset, LocalDateTime heartbeat, TransactionRecordSource source) {
+        // Bounded hand-off between the parser and the writer: when chunk commits fall behind,
+        // put() blocks the parser and it stops reading input until the writer catches up.
+        BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(queueCapacity);
+        Future<?> parser = parserExecutor.submit(() -> parse(source, startOffset, queue));
+        try {
+            Chunk chunk = queue.take();
+            while (!chunk.isLast()) {
+                heartbeat = commit(jobId, heartbeat, chunk);
+                chunk = queue.take();
+            }
+            if (chunk.failure() != null) {
+                throw chunk.failure();
+            }
+            finish(jobId, heartbeat, ImportStatus.COMPLETED, null);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            finish(jobId, heartbeat, ImportStatus.FAILED, "Import interrupted");
+        } catch (RuntimeException ex) {
+            log.warn("Import job {} failed: {}", jobId, ex.getMessage());
+            finish(jobId, heartbeat, ImportStatus.FAILED, ex.getMessage());
+        } finally {
+            parser.cancel(true);
+            closeQuietly(source);
+        }
+        return getImportJob(jobId);
+    }
+
+    private void parse(TransactionRecordSource source, long startOffset, BlockingQueue<Chunk> queue) {
+        try {
+            source.skip(startOffset);
+            List<Transaction> transactions = new ArrayList<>(chunkSize);
+            long endOffset = startOffset;
+            TransactionRecordSource.ImportRecord record;
+            while ((record = source.next()) != null) {
+                transactions.add(record.transaction());
+                endOffset = record.endOffset();
+                if (transactions.size() == chunkSize) {
+                    queue.put(new Chunk(transactions, endOffset, null, false));
+                    transactions = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!transactions.isEmpty()) {
+                queue.put(new Chunk(transactions, endOffset, null, false));
+            }
+            queue.put(new Chunk(List.of(), endOffset, null, true));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (IOException ex) {
+            offerFailure(queue, new UncheckedIOException(ex));
+        } catch (RuntimeException ex) {
+            offerFailure(queue, ex);
+        }
+    }
+
+    private void offerFailure(BlockingQueue<Chunk> queue, RuntimeException failure) {
+        try {
+            queue.put(new Chunk(List.of(), -1, failure, true));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // A chunk slower than STALE_RUNNING_JOB can be claimed by a resume meanwhile; its postings then roll back with it.
+    private LocalDateTime commit(Long jobId, LocalDateTime heartbeat, Chunk chunk) {
+        LocalDateTime now = heartbeat();
+        transactionTemplate.executeWithoutResult(status -> {
+            transactionService.createTransactions(chunk.transactions());
+            if (importJobRepository.recordProgress(jobId, chunk.endOffset(), chunk.transactions().size(),
+                    heartbeat, now) == 0) {
+                throw new ImportJobConflictException(jobId);
+            }
+        });
+        return now;
+    }
+
+    private void finish(Long jobId, LocalDateTime heartbeat, ImportStatus status, String failureReason) {
+        String reason = failureReason != null && failureReason.length() > MAX_FAILURE_REASON_LENGTH
+                ? failureReason.substring(0, MAX_FAILURE_REASON_LENGTH)
+                : failureReason;
+        transactionTemplate.executeWithoutResult(tx ->
+                importJobRepository.updateStatus(jobId, status, reason, heartbeat, heartbeat()));
+    }
+
+    private static LocalDateTime heartbeat() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private void closeQuietly(TransactionRecordSource source) {
+        try {
+            source.close();
+        } catch (IOException ex) {
+            log.debug("Failed to close import source", ex);
+        }
+    }
+
+    private record Chunk(List<Transaction> transactions, long endOffset, RuntimeException failure, boolean isLast) {
+    }
+}
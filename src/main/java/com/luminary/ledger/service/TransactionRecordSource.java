@@ -0,0 +1,16 @@
+package com.luminary.ledger.service;
+
+import com.luminary.ledger.domain.model.Transaction;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface TransactionRecordSource extends Closeable {
+
+    void skip(long offset) throws IOException;
+
+    ImportRecord next() throws IOException;
+
+    record ImportRecord(Transaction transaction, long endOffset) {
+    }
+}
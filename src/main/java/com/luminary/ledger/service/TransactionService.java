@@ -1,22 +1,52 @@
 package com.luminary.ledger.service;
 
 import com.luminary.ledger.domain.exception.AccountNotFoundException;
+import com.luminary.ledger.domain.exception.BalanceVersionMismatchException;
 import com.luminary.ledger.domain.exception.TransactionNotFoundException;
+import com.luminary.ledger.domain.model.Account;
 import com.luminary.ledger.domain.model.Transaction;
 import com.luminary.ledger.domain.model.TransactionEntry;
-import com.luminary.ledger.persistence.entity.AccountEntity;
+import com.luminary.ledger.domain.vo.BalanceTotals;
+import com.luminary.ledger.domain.vo.BalanceVersion;
+import com.luminary.ledger.domain.vo.IdempotencyKey;
+import com.luminary.ledger.domain.vo.TransactionCursor;
 import com.luminary.ledger.persistence.entity.TransactionEntity;
 import com.luminary.ledger.persistence.mapper.TransactionEntityMapper;
+import com.luminary.ledger.persistence.repository.AccountBalanceRepository;
+import com.luminary.ledger.persistence.repository.AccountBalanceRepository.UpdatedBalance;
+import com.luminary.ledger.persistence.repository.AccountBalanceSnapshotRepository;
 import com.luminary.ledger.persistence.repository.AccountRepository;
+import com.luminary.ledger.persistence.repository.IdempotencyKeyRepository;
 import com.luminary.ledger.persistence.repository.TransactionRepository;
+import com.luminary.ledger.persistence.repository.TransactionRepository.TransactionKey;
+import com.luminary.ledger.persistence.writer.TransactionBulkLoader;
+import com.luminary.ledger.persistence.writer.TransactionWriter;
+import com.luminary.ledger.service.BalanceCache.CachedBalance;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,55 +54,302 @@ public class TransactionService {
 
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
+    private final AccountBalanceRepository balanceRepository;
+    private final AccountBalanceSnapshotRepository snapshotRepository;
     private final TransactionEntityMapper transactionMapper;
+    private final TransactionWriter transactionWriter;
+    private final TransactionBulkLoader bulkLoader;
+    private final BalanceCache balanceCache;
+    private final AccountCache accountCache;
+    private final PostingCoordinator postingCoordinator;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final DistributionSummary entriesPerTransaction;
+    private final Timer postingLatency;
+    private final int bulkLoadThreshold;
 
     public TransactionService(TransactionRepository transactionRepository,
                               AccountRepository accountRepository,
-                              TransactionEntityMapper transactionMapper) {
+                              AccountBalanceRepository balanceRepository,
+                              AccountBalanceSnapshotRepository snapshotRepository,
+                              TransactionEntityMapper transactionMapper,
+                              TransactionWriter transactionWriter,
+                              TransactionBulkLoader bulkLoader,
+                              BalanceCache balanceCache,
+                              AccountCache accountCache,
+                              PostingCoordinator postingCoordinator,
+                              IdempotencyKeyRepository idempotencyKeyRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${ledger.postings.bulk-load-threshold:100}") int bulkLoadThreshold) {
         this.transactionRepository = transactionRepository;
         this.accountRepository = accountRepository;
+        this.balanceRepository = balanceRepository;
+        this.snapshotRepository = snapshotRepository;
         this.transactionMapper = transactionMapper;
+        this.transactionWriter = transactionWriter;
+        this.bulkLoader = bulkLoader;
+        this.balanceCache = balanceCache;
+        this.accountCache = accountCache;
+        this.postingCoordinator = postingCoordinator;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.entriesPerTransaction = DistributionSummary.builder("ledger.transactions.entries")
+                .description("Journal entries per posted transaction")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        // One timer around post(), which every public posting method funnels into; a @Timed proxy cannot see it.
+        this.postingLatency = Timer.builder("ledger.transactions.create")
+                .description("Posting latency")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.bulkLoadThreshold = bulkLoadThreshold;
     }
 
-    @Transactional
     public Transaction createTransaction(Transaction transaction) {
-        Set<Long> accountIds = transaction.getEntries().stream()
-                .map(TransactionEntry::getAccountId)
-                .collect(Collectors.toSet());
+        return post(List.of(transaction), null, List.of()).get(0);
+    }
 
-        Map<Long, AccountEntity> accountEntities = accountRepository.findAllById(accountIds).stream()
-                .collect(Collectors.toMap(AccountEntity::getId, a -> a));
+    // The key is stored in the posting's own database transaction, so it exists exactly when the posting does.
+    public Transaction createTransaction(Transaction transaction, IdempotencyKey idempotencyKey) {
+        return post(List.of(transaction), idempotencyKey, List.of()).get(0);
+    }
 
-        for (Long accountId : accountIds) {
-            if (!accountEntities.containsKey(accountId)) {
-                throw new AccountNotFoundException(accountId);
-            }
-        }
+    // Posts only if each listed balance is still at the given version; otherwise nothing is written.
+    public Transaction createTransaction(Transaction transaction, IdempotencyKey idempotencyKey,
+                                         Collection<BalanceVersion> expectedVersions) {
+        return post(List.of(transaction), idempotencyKey, expectedVersions).get(0);
+    }
 
-        TransactionEntity entity = transactionMapper.toEntity(transaction, accountEntities);
-        TransactionEntity saved = transactionRepository.save(entity);
-        return transactionMapper.toDomain(saved);
+    public List<Transaction> createTransactions(List<Transaction> transactions) {
+        return post(transactions, null, List.of());
     }
 
+    public List<Transaction> createTransactions(List<Transaction> transactions,
+                                                Collection<BalanceVersion> expectedVersions) {
+        return post(transactions, null, expectedVersions);
+    }
+
+    // Resolving the date first keeps the full partition probe to one primary-key lookup on transactions; the row and
+    // its entries are then read from their own month only.
     @Transactional(readOnly = true)
     public Transaction getTransaction(Long id) {
-        TransactionEntity entity = transactionRepository.findById(id)
+        LocalDateTime date = transactionRepository.findDateById(id)
+                .orElseThrow(() -> new TransactionNotFoundException(id));
+        return getTransaction(id, date);
+    }
+
+    // Callers that stored the posting's date read only the partitions of its month.
+    @Transactional(readOnly = true)
+    public Transaction getTransaction(Long id, LocalDateTime date) {
+        TransactionEntity entity = transactionRepository.findWithEntriesByIdAndDate(id, date)
                 .orElseThrow(() -> new TransactionNotFoundException(id));
         return transactionMapper.toDomain(entity);
     }
 
+    @Timed(value = "ledger.transactions.history", description = "Account history query latency", histogram = true)
     @Transactional(readOnly = true)
     public Page<Transaction> getTransactionsByAccountId(Long accountId, Pageable pageable) {
         if (!accountRepository.existsById(accountId)) {
             throw new AccountNotFoundException(accountId);
         }
-        Page<Long> transactionIds = transactionRepository.findTransactionIdsByAccountId(accountId, pageable);
-        if (transactionIds.isEmpty()) {
-            return transactionIds.map(id -> null);
+        Page<TransactionKey> transactionKeys =
+                transactionRepository.findTransactionKeysByAccountId(accountId, pageable);
+        if (transactionKeys.isEmpty()) {
+            return transactionKeys.map(key -> null);
         }
-        List<TransactionEntity> entities = transactionRepository.findAllWithEntriesByIds(transactionIds.getContent());
-        Map<Long, Transaction> transactionMap = entities.stream()
+        Map<Long, Transaction> transactionMap = findAllWithEntries(transactionKeys.getContent());
+        return transactionKeys.map(key -> transactionMap.get(key.getTransactionId()));
+    }
+
+    @Timed(value = "ledger.transactions.history", description = "Account history query latency", histogram = true)
+    @Transactional(readOnly = true)
+    public Slice<Transaction> getTransactionsByAccountId(Long accountId, TransactionCursor after, int size) {
+        if (!accountRepository.existsById(accountId)) {
+            throw new AccountNotFoundException(accountId);
+        }
+        Limit limit = Limit.of(size + 1);
+        List<TransactionKey> transactionKeys = after == null
+                ? transactionRepository.findFirstTransactionKeysByAccountId(accountId, limit)
+                : transactionRepository.findTransactionKeysByAccountIdBefore(accountId, after.date(), after.id(), limit);
+
+        boolean hasNext = transactionKeys.size() > size;
+        List<TransactionKey> pageKeys = hasNext ? transactionKeys.subList(0, size) : transactionKeys;
+        if (pageKeys.isEmpty()) {
+            return new SliceImpl<>(List.of(), Pageable.ofSize(size), false);
+        }
+        Map<Long, Transaction> transactionMap = findAllWithEntries(pageKeys);
+        List<Transaction> content = pageKeys.stream()
+                .map(key -> transactionMap.get(key.getTransactionId()))
+                .toList();
+        return new SliceImpl<>(content, Pageable.ofSize(size), hasNext);
+    }
+
+    private Map<Long, Transaction> findAllWithEntries(List<TransactionKey> keys) {
+        List<Long> ids = keys.stream().map(TransactionKey::getTransactionId).toList();
+        LocalDateTime from = keys.stream().map(TransactionKey::getTransactionDate).min(Comparator.naturalOrder())
+                .orElseThrow();
+        LocalDateTime to = keys.stream().map(TransactionKey::getTransactionDate).max(Comparator.naturalOrder())
+                .orElseThrow();
+        return transactionRepository.findAllWithEntriesByIds(ids, from, to).stream()
                 .collect(Collectors.toMap(TransactionEntity::getId, transactionMapper::toDomain));
-        return transactionIds.map(transactionMap::get);
+    }
+
+    private List<Transaction> post(List<Transaction> transactions, IdempotencyKey idempotencyKey,
+                                   Collection<BalanceVersion> expectedVersions) {
+        return postingLatency.record(() -> {
+            Map<Long, Account> accounts = loadAccounts(transactions);
+            Map<Long, Long> expected = expectedVersions(expectedVersions, accounts);
+            Map<BalanceShard, BalanceTotals> deltas = balanceDeltas(transactions, accounts);
+            List<Transaction> saved = postingCoordinator.post(deltas.keySet(),
+                    () -> persist(transactions, accounts, deltas, idempotencyKey, expected));
+            transactions.forEach(transaction -> entriesPerTransaction.record(transaction.getEntries().size()));
+            return saved;
+        });
+    }
+
+    private List<Transaction> persist(List<Transaction> transactions,
+                                      Map<Long, Account> accounts,
+                                      Map<BalanceShard, BalanceTotals> deltas,
+                                      IdempotencyKey idempotencyKey,
+                                      Map<Long, Long> expectedVersions) {
+        // Large batches and import chunks go through COPY; below the threshold its extra round trips don't pay off.
+        List<Transaction> saved = bulkLoadThreshold > 0 && transactions.size() >= bulkLoadThreshold
+                ? bulkLoader.load(transactions)
+                : transactionWriter.insertAll(transactions);
+        if (idempotencyKey != null) {
+            idempotencyKeyRepository.insert(idempotencyKey.value(), saved.get(0).getId(), saved.get(0).getDate(),
+                    idempotencyKey.requestHash());
+        }
+        applyBalanceDeltas(deltas, accounts, expectedVersions);
+        invalidateSnapshots(earliestDates(transactions));
+        return saved;
+    }
+
+    private Map<Long, Account> loadAccounts(List<Transaction> transactions) {
+        Set<Long> accountIds = transactions.stream()
+                .flatMap(transaction -> transaction.getEntries().stream())
+                .map(TransactionEntry::getAccountId)
+                .collect(Collectors.toSet());
+
+        Map<Long, Account> accounts = accountCache.getAll(accountIds);
+        for (Long accountId : accountIds) {
+            if (!accounts.containsKey(accountId)) {
+                throw new AccountNotFoundException(accountId);
+            }
+        }
+        return accounts;
+    }
+
+    private Map<Long, Long> expectedVersions(Collection<BalanceVersion> expectedVersions, Map<Long, Account> accounts) {
+        Map<Long, Long> expected = new HashMap<>();
+        for (BalanceVersion version : expectedVersions) {
+            Account account = accounts.get(version.accountId());
+            if (account == null) {
+                throw new IllegalArgumentException("Precondition on account " + version.accountId() +
+                        ", which the posting does not touch");
+            }
+            // A sharded balance has no single row to compare against without locking every shard.
+            if (account.isBalanceSharded()) {
+                throw new IllegalArgumentException("Conditional postings are not supported on sharded account " +
+                        version.accountId());
+            }
+            Long previous = expected.put(version.accountId(), version.version());
+            if (previous != null && previous != version.version()) {
+                throw new IllegalArgumentException("Conflicting preconditions on account " + version.accountId());
+            }
+        }
+        return expected;
+    }
+
+    private Map<BalanceShard, BalanceTotals> balanceDeltas(List<Transaction> transactions, Map<Long, Account> accounts) {
+        // Sorted by account and shard so concurrent postings lock balance rows in the same order.
+        Map<BalanceShard, BalanceTotals> deltas = new TreeMap<>();
+        for (Transaction transaction : transactions) {
+            Map<Long, Integer> shards = new HashMap<>();
+            for (TransactionEntry entry : transaction.getEntries()) {
+                int shard = shards.computeIfAbsent(entry.getAccountId(),
+                        accountId -> chooseShard(accounts.get(accountId)));
+                deltas.merge(new BalanceShard(entry.getAccountId(), shard),
+                        BalanceTotals.ZERO.add(entry.getEntryType(), entry.getAmount()),
+                        BalanceTotals::plus);
+            }
+        }
+        return deltas;
+    }
+
+    // Any spread works: reads sum every shard, so the choice only decides which row absorbs the delta.
+    private int chooseShard(Account account) {
+        return account.isBalanceSharded() ? ThreadLocalRandom.current().nextInt(account.getBalanceShards()) : 0;
+    }
+
+    private void applyBalanceDeltas(Map<BalanceShard, BalanceTotals> deltas,
+                                    Map<Long, Account> accounts,
+                                    Map<Long, Long> expectedVersions) {
+        Map<Long, CachedBalance> updated = new HashMap<>();
+        Set<Long> sharded = new HashSet<>();
+        deltas.forEach((key, delta) -> {
+            Long expected = expectedVersions.get(key.accountId());
+            // The version check and the update are one statement, so nothing is locked ahead of the posting.
+            UpdatedBalance balance = expected == null
+                    ? balanceRepository.applyDelta(
+                            key.accountId(), key.shard(), delta.debits().value(), delta.credits().value())
+                    : applyDeltaIfVersion(key.accountId(), delta, expected);
+            // A shard row only holds part of a sharded account's totals, so its cache entry is dropped instead. The
+            // returned shard count also catches an account resharded since this instance cached it.
+            if (accounts.get(key.accountId()).isBalanceSharded() || balance.getBalanceShards() > 1) {
+                sharded.add(key.accountId());
+            } else {
+                updated.put(key.accountId(), new CachedBalance(
+                        BalanceTotals.of(balance.getDebitTotal(), balance.getCreditTotal()), balance.getVersion()));
+            }
+        });
+        balanceCache.putAllAfterCommit(updated);
+        balanceCache.evictAllAfterCommit(sharded);
+    }
+
+    // An account without a balance row reads as version 0; its row is created so the version check has one to match.
+    private UpdatedBalance applyDeltaIfVersion(Long accountId, BalanceTotals delta, long expected) {
+        Optional<UpdatedBalance> balance = balanceRepository.applyDeltaIfVersion(
+                accountId, delta.debits().value(), delta.credits().value(), expected);
+        if (balance.isEmpty() && expected == 0 && balanceRepository.initialize(accountId, 1) > 0) {
+            balance = balanceRepository.applyDeltaIfVersion(
+                    accountId, delta.debits().value(), delta.credits().value(), expected);
+        }
+        if (balance.isEmpty()) {
+            // The client's ETag may have come from a stale cache entry; drop it so its next read is current.
+            balanceCache.evict(accountId);
+            throw new BalanceVersionMismatchException(accountId, expected);
+        }
+        return balance.get();
+    }
+
+    private Map<Long, LocalDateTime> earliestDates(List<Transaction> transactions) {
+        Map<Long, LocalDateTime> earliestDates = new HashMap<>();
+        for (Transaction transaction : transactions) {
+            for (TransactionEntry entry : transaction.getEntries()) {
+                earliestDates.merge(entry.getAccountId(), transaction.getDate(),
+                        (a, b) -> a.isBefore(b) ? a : b);
+            }
+        }
+        return earliestDates;
+    }
+
+    // Snapshots are cut at midnight, so only postings dated before today can fall inside one.
+    private void invalidateSnapshots(Map<Long, LocalDateTime> earliestDates) {
+        LocalDateTime latestCutoff = LocalDate.now().atStartOfDay();
+        earliestDates.forEach((accountId, date) -> {
+            if (date.isBefore(latestCutoff)) {
+                snapshotRepository.deleteCoveringDate(accountId, date);
+            }
+        });
+    }
+
+    private record BalanceShard(Long accountId, int shard) implements Comparable<BalanceShard> {
+
+        private static final Comparator<BalanceShard> ORDER =
+                Comparator.comparing(BalanceShard::accountId).thenComparingInt(BalanceShard::shard);
+
+        @Override
+        public int compareTo(BalanceShard other) {
+            return ORDER.compare(this, other);
+        }
     }
 }
@@ -0,0 +1,96 @@
+-- Rebuilds transactions and transaction_entries as tables range-partitioned by month of the business date. Entries
+-- carry their transaction's date (V6), so a transaction and its entries always land in the same month.
+
+-- Creates the month's partitions of both tables unless they exist; returns how many were created. Fails if the
+-- default partition already holds rows of that month.
+CREATE FUNCTION create_ledger_partitions(month_start DATE) RETURNS INTEGER AS $$
+DECLARE
+    first_day  DATE := date_trunc('month', month_start);
+    next_month DATE := date_trunc('month', month_start) + INTERVAL '1 month';
+    suffix     TEXT := to_char(date_trunc('month', month_start), '"y"YYYY"m"MM');
+    parent     TEXT;
+    created    INTEGER := 0;
+BEGIN
+    FOREACH parent IN ARRAY ARRAY['transactions', 'transaction_entries'] LOOP
+        IF to_regclass(parent || '_' || suffix) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                           parent || '_' || suffix, parent, first_day, next_month);
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- A foreign key must cover the partition key, which idempotency_keys does not store; keys are written in the same
+-- database transaction as their posting.
+ALTER TABLE idempotency_keys DROP CONSTRAINT idempotency_keys_transaction_id_fkey;
+
+ALTER SEQUENCE transactions_id_seq OWNED BY NONE;
+ALTER SEQUENCE transaction_entries_id_seq OWNED BY NONE;
+
+ALTER TABLE transaction_entries RENAME TO transaction_entries_unpartitioned;
+ALTER TABLE transaction_entries_unpartitioned
+    RENAME CONSTRAINT transaction_entries_pkey TO transaction_entries_unpartitioned_pkey;
+ALTER TABLE transactions RENAME TO transactions_unpartitioned;
+ALTER TABLE transactions_unpartitioned RENAME CONSTRAINT transactions_pkey TO transactions_unpartitioned_pkey;
+
+-- Ids stay unique through their sequences; the primary keys must include the partition key.
+CREATE TABLE transactions (
+    id          BIGINT       NOT NULL DEFAULT nextval('transactions_id_seq'),
+    description VARCHAR(500) NOT NULL,
+    date        TIMESTAMP    NOT NULL DEFAULT now(),
+    created_at  TIMESTAMP    NOT NULL DEFAULT now(),
+    PRIMARY KEY (id, date)
+) PARTITION BY RANGE (date);
+
+CREATE TABLE transaction_entries (
+    id               BIGINT         NOT NULL DEFAULT nextval('transaction_entries_id_seq'),
+    transaction_id   BIGINT         NOT NULL,
+    account_id       BIGINT         NOT NULL REFERENCES accounts(id),
+    entry_type       VARCHAR(10)    NOT NULL,
+    amount           NUMERIC(19, 4) NOT NULL,
+    created_at       TIMESTAMP      NOT NULL DEFAULT now(),
+    transaction_date TIMESTAMP      NOT NULL,
+    PRIMARY KEY (id, transaction_date),
+    FOREIGN KEY (transaction_id, transaction_date) REFERENCES transactions(id, date)
+) PARTITION BY RANGE (transaction_date);
+
+ALTER SEQUENCE transactions_id_seq OWNED BY transactions.id;
+ALTER SEQUENCE transaction_entries_id_seq OWNED BY transaction_entries.id;
+
+-- Postings dated outside every monthly partition (far backdated, or beyond the maintained horizon) land here.
+CREATE TABLE transactions_default PARTITION OF transactions DEFAULT;
+CREATE TABLE transaction_entries_default PARTITION OF transaction_entries DEFAULT;
+
+-- Months that already hold data, plus the current month and three ahead; PartitionMaintenanceJob extends these.
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    FOR month_start IN
+        SELECT DISTINCT date_trunc('month', date)::date FROM transactions_unpartitioned
+        UNION
+        SELECT generate_series(date_trunc('month', now()), date_trunc('month', now()) + INTERVAL '3 months',
+                               INTERVAL '1 month')::date
+    LOOP
+        PERFORM create_ledger_partitions(month_start);
+    END LOOP;
+END;
+$$;
+
+INSERT INTO transactions (id, description, date, created_at)
+SELECT id, description, date, created_at FROM transactions_unpartitioned;
+
+INSERT INTO transaction_entries (id, transaction_id, account_id, entry_type, amount, created_at, transaction_date)
+SELECT id, transaction_id, account_id, entry_type, amount, created_at, transaction_date
+FROM transaction_entries_unpartitioned;
+
+DROP TABLE transaction_entries_unpartitioned;
+DROP TABLE transactions_unpartitioned;
+
+-- Defined on the parents, so every partition (current and future) gets its own copy.
+CREATE INDEX idx_entries_transaction_id ON transaction_entries(transaction_id, transaction_date);
+CREATE INDEX idx_entries_account_entry_type ON transaction_entries(account_id, entry_type);
+CREATE INDEX idx_entries_account_date_txn
+    ON transaction_entries(account_id, transaction_date DESC, transaction_id DESC);
@@ -0,0 +1,9 @@
+-- Replays look the posting up by (id, date), so only the partition of its month is read.
+ALTER TABLE idempotency_keys ADD COLUMN transaction_date TIMESTAMP;
+
+UPDATE idempotency_keys k
+SET transaction_date = t.date
+FROM transactions t
+WHERE t.id = k.transaction_id;
+
+ALTER TABLE idempotency_keys ALTER COLUMN transaction_date SET NOT NULL;
@@ -0,0 +1,2 @@
+-- SHA-256 of the request a key was first used with; keys stored before this migration have none.
+ALTER TABLE idempotency_keys ADD COLUMN request_hash VARCHAR(64);
@@ -0,0 +1,43 @@
+-- A month whose rows already landed in the default partition (postings dated beyond the maintained horizon) could not
+-- get its partition: PostgreSQL refuses to create one while the default holds rows in its range. The month's tables
+-- are now built standalone, the rows moved out of the default partitions into them, and then attached. Entries move
+-- first and their partition attaches last, so their foreign key to transactions is only checked once both sides are
+-- in place. Both default partitions stay locked until commit, so no posting can slip a row of the month in meanwhile.
+CREATE OR REPLACE FUNCTION create_ledger_partitions(month_start DATE) RETURNS INTEGER AS $$
+DECLARE
+    first_day  DATE := date_trunc('month', month_start);
+    next_month DATE := date_trunc('month', month_start) + INTERVAL '1 month';
+    suffix     TEXT := to_char(date_trunc('month', month_start), '"y"YYYY"m"MM');
+    parents    TEXT[] := ARRAY['transaction_entries', 'transactions'];
+    keys       TEXT[] := ARRAY['transaction_date', 'date'];
+    missing    TEXT[] := ARRAY[]::TEXT[];
+    i          INTEGER;
+BEGIN
+    FOR i IN 1 .. array_length(parents, 1) LOOP
+        IF to_regclass(parents[i] || '_' || suffix) IS NULL THEN
+            missing := missing || parents[i];
+        END IF;
+    END LOOP;
+    IF cardinality(missing) = 0 THEN
+        RETURN 0;
+    END IF;
+
+    LOCK TABLE transaction_entries_default, transactions_default IN ACCESS EXCLUSIVE MODE;
+    FOR i IN 1 .. array_length(parents, 1) LOOP
+        IF parents[i] = ANY (missing) THEN
+            EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS)', parents[i] || '_' || suffix, parents[i]);
+            EXECUTE format('WITH moved AS (DELETE FROM %I WHERE %I >= %L AND %I < %L RETURNING *) '
+                               'INSERT INTO %I SELECT * FROM moved',
+                           parents[i] || '_default', keys[i], first_day, keys[i], next_month,
+                           parents[i] || '_' || suffix);
+        END IF;
+    END LOOP;
+    FOR i IN REVERSE array_length(parents, 1) .. 1 LOOP
+        IF parents[i] = ANY (missing) THEN
+            EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                           parents[i], parents[i] || '_' || suffix, first_day, next_month);
+        END IF;
+    END LOOP;
+    RETURN cardinality(missing);
+END;
+$$ LANGUAGE plpgsql;
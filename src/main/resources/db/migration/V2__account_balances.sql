@@ -0,0 +1,17 @@
+CREATE TABLE account_balances (
+    account_id   BIGINT         PRIMARY KEY REFERENCES accounts(id),
+    debit_total  NUMERIC(19, 4) NOT NULL DEFAULT 0,
+    credit_total NUMERIC(19, 4) NOT NULL DEFAULT 0,
+    version      BIGINT         NOT NULL DEFAULT 0,
+    updated_at   TIMESTAMP      NOT NULL DEFAULT now()
+);
+
+INSERT INTO account_balances (account_id, debit_total, credit_total, version, updated_at)
+SELECT a.id,
+       COALESCE(SUM(CASE WHEN e.entry_type = 'DEBIT' THEN e.amount END), 0),
+       COALESCE(SUM(CASE WHEN e.entry_type = 'CREDIT' THEN e.amount END), 0),
+       0,
+       now()
+FROM accounts a
+LEFT JOIN transaction_entries e ON e.account_id = a.id
+GROUP BY a.id;
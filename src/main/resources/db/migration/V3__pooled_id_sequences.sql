@@ -0,0 +1,2 @@
+ALTER SEQUENCE transactions_id_seq INCREMENT BY 50;
+ALTER SEQUENCE transaction_entries_id_seq INCREMENT BY 50;
@@ -0,0 +1,10 @@
+CREATE TABLE import_jobs (
+    id                    BIGSERIAL     PRIMARY KEY,
+    format                VARCHAR(10)   NOT NULL,
+    status                VARCHAR(20)   NOT NULL,
+    committed_offset      BIGINT        NOT NULL DEFAULT 0,
+    imported_transactions BIGINT        NOT NULL DEFAULT 0,
+    failure_reason        VARCHAR(1000),
+    created_at            TIMESTAMP     NOT NULL DEFAULT now(),
+    updated_at            TIMESTAMP     NOT NULL DEFAULT now()
+);
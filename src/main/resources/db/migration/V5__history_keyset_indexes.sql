@@ -0,0 +1,5 @@
+CREATE INDEX idx_entries_account_transaction ON transaction_entries(account_id, transaction_id);
+CREATE INDEX idx_transactions_date_id ON transactions(date DESC, id DESC);
+
+-- Covered by the leading column of idx_entries_account_transaction.
+DROP INDEX idx_entries_account_id;
@@ -0,0 +1,15 @@
+ALTER TABLE transaction_entries ADD COLUMN transaction_date TIMESTAMP;
+
+UPDATE transaction_entries e
+SET transaction_date = t.date
+FROM transactions t
+WHERE t.id = e.transaction_id;
+
+ALTER TABLE transaction_entries ALTER COLUMN transaction_date SET NOT NULL;
+
+-- Serves account history pages (offset and keyset) as a single index range scan.
+CREATE INDEX idx_entries_account_date_txn
+    ON transaction_entries(account_id, transaction_date DESC, transaction_id DESC);
+
+DROP INDEX idx_entries_account_transaction;
+DROP INDEX idx_transactions_date_id;
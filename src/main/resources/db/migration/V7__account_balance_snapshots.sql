@@ -0,0 +1,9 @@
+-- Totals of all entries dated strictly before as_of.
+CREATE TABLE account_balance_snapshots (
+    account_id   BIGINT         NOT NULL REFERENCES accounts(id),
+    as_of        TIMESTAMP      NOT NULL,
+    debit_total  NUMERIC(19, 4) NOT NULL,
+    credit_total NUMERIC(19, 4) NOT NULL,
+    created_at   TIMESTAMP      NOT NULL DEFAULT now(),
+    PRIMARY KEY (account_id, as_of)
+);
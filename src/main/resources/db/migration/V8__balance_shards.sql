@@ -0,0 +1,17 @@
+ALTER TABLE accounts ADD COLUMN balance_shards INTEGER NOT NULL DEFAULT 1
+    CHECK (balance_shards BETWEEN 1 AND 64);
+
+ALTER TABLE account_balances RENAME TO account_balance_shards;
+ALTER TABLE account_balance_shards ADD COLUMN shard INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE account_balance_shards DROP CONSTRAINT account_balances_pkey;
+ALTER TABLE account_balance_shards ADD PRIMARY KEY (account_id, shard);
+
+-- Readers keep seeing one row per account; the summed shard versions still grow with every posting.
+CREATE VIEW account_balances AS
+SELECT account_id,
+       CAST(SUM(debit_total) AS NUMERIC(19, 4))  AS debit_total,
+       CAST(SUM(credit_total) AS NUMERIC(19, 4)) AS credit_total,
+       CAST(SUM(version) AS BIGINT)              AS version,
+       MAX(updated_at)                           AS updated_at
+FROM account_balance_shards
+GROUP BY account_id;
@@ -0,0 +1,5 @@
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    transaction_id  BIGINT       NOT NULL REFERENCES transactions(id),
+    created_at      TIMESTAMP    NOT NULL DEFAULT now()
+);
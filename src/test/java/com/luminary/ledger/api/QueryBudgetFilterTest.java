@@ -0,0 +1,45 @@
+package com.luminary.ledger.api;
+
+import com.luminary.ledger.persistence.tracking.QueryStats;
+import com.luminary.ledger.persistence.tracking.TrackingStatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryBudgetFilterTest {
+
+    private final QueryBudgetFilter filter = new QueryBudgetFilter(2, Duration.ofMillis(200));
+    private final TrackingStatementInspector inspector = new TrackingStatementInspector();
+
+    @Test
+    void doFilter_countsStatementsRunDuringRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/accounts");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            inspector.inspect("select a from accounts a");
+            inspector.inspect("select b from account_balances b");
+            inspector.inspect("select b from account_balances b");
+        });
+
+        QueryStats stats = (QueryStats) request.getAttribute(QueryBudgetFilter.STATS_ATTRIBUTE);
+        assertEquals(3, stats.statements());
+        assertEquals("select a from accounts a", stats.sql().get(0));
+    }
+
+    @Test
+    void doFilter_statementsOutsideRequestAreNotCounted() throws Exception {
+        inspector.inspect("select 1");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/accounts/1");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+        });
+        inspector.inspect("select 2");
+
+        QueryStats stats = (QueryStats) request.getAttribute(QueryBudgetFilter.STATS_ATTRIBUTE);
+        assertEquals(0, stats.statements());
+    }
+}
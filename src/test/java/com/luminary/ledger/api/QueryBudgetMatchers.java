@@ -0,0 +1,54 @@
+package com.luminary.ledger.api;
+
+import com.luminary.ledger.persistence.tracking.QueryStats;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.time.Duration;
+
+import static org.springframework.test.util.AssertionErrors.assertNotNull;
+import static org.springframework.test.util.AssertionErrors.fail;
+
+// MockMvc matchers over the statistics QueryBudgetFilter leaves on the request, e.g.
+// mockMvc.perform(get("/api/accounts")).andExpect(statementsAtMost(3)).
+public final class QueryBudgetMatchers {
+
+    private QueryBudgetMatchers() {
+    }
+
+    public static ResultMatcher statementsAtMost(int max) {
+        return result -> {
+            QueryStats stats = stats(result);
+            if (stats.statements() > max) {
+                fail("Expected at most " + max + " SQL statement(s) but " + stats.statements() + " ran: "
+                        + String.join("; ", stats.sql()));
+            }
+        };
+    }
+
+    public static ResultMatcher ranStatement(String sqlPrefix) {
+        return result -> {
+            QueryStats stats = stats(result);
+            if (stats.sql().stream().noneMatch(sql -> sql.startsWith(sqlPrefix))) {
+                fail("Expected a SQL statement starting with \"" + sqlPrefix + "\" but ran: "
+                        + String.join("; ", stats.sql()));
+            }
+        };
+    }
+
+    public static ResultMatcher dbTimeAtMost(Duration max) {
+        return result -> {
+            QueryStats stats = stats(result);
+            if (stats.dbTime().compareTo(max) > 0) {
+                fail("Expected at most " + max.toMillis() + " ms in the database but took "
+                        + stats.dbTime().toMillis() + " ms: " + String.join("; ", stats.sql()));
+            }
+        };
+    }
+
+    private static QueryStats stats(MvcResult result) {
+        QueryStats stats = (QueryStats) result.getRequest().getAttribute(QueryBudgetFilter.STATS_ATTRIBUTE);
+        assertNotNull("No query statistics on the request; is ledger.query-budget.enabled set?", stats);
+        return stats;
+    }
+}
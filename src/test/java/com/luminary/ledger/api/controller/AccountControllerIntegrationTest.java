@@ -1,5 +1,6 @@
 package com.luminary.ledger.api.controller;
 
+import com.luminary.ledger.service.BalanceSnapshotJob;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -13,9 +14,13 @@ import org.testcontainers.postgresql.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.time.LocalDateTime;
+
+import static com.luminary.ledger.api.QueryBudgetMatchers.statementsAtMost;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
@@ -38,6 +43,9 @@ class AccountControllerIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private BalanceSnapshotJob balanceSnapshotJob;
+
     @Test
     void createAccount_returnsCreated() throws Exception {
         mockMvc.perform(post("/api/accounts")
@@ -133,6 +141,84 @@ class AccountControllerIntegrationTest {
                 .andExpect(jsonPath("$.balance").value(0));
     }
 
+    @Test
+    void getAccount_eTagFollowsBalanceVersion() throws Exception {
+        String cashResp = mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "ETagCash", "type": "ASSET"}
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("ETag", notNullValue()))
+                .andReturn().getResponse().getContentAsString();
+        Long cashId = com.jayway.jsonpath.JsonPath.parse(cashResp).read("$.id", Long.class);
+        String salesResp = mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "ETagSales", "type": "REVENUE"}
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long salesId = com.jayway.jsonpath.JsonPath.parse(salesResp).read("$.id", Long.class);
+
+        String eTag = mockMvc.perform(get("/api/accounts/{id}", cashId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"%d.0\"".formatted(cashId)))
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/accounts/{id}", cashId).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        postSale(cashId, salesId, "2025-03-01T10:00:00", "10.00");
+
+        mockMvc.perform(get("/api/accounts/{id}", cashId).header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"%d.1\"".formatted(cashId)));
+    }
+
+    @Test
+    void updateBalanceShards_existingAccount_keepsBalanceAndSpreadsLaterPostings() throws Exception {
+        String cashResp = mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "ReshardCash", "type": "ASSET"}
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long cashId = com.jayway.jsonpath.JsonPath.parse(cashResp).read("$.id", Long.class);
+        String salesResp = mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "ReshardSales", "type": "REVENUE"}
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long salesId = com.jayway.jsonpath.JsonPath.parse(salesResp).read("$.id", Long.class);
+        postSale(cashId, salesId, "2025-03-01T10:00:00", "10.00");
+
+        mockMvc.perform(put("/api/accounts/{id}/balance-shards", salesId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"balanceShards": 4}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balanceShards").value(4))
+                .andExpect(jsonPath("$.balance").value(10.00));
+        for (int i = 0; i < 8; i++) {
+            postSale(cashId, salesId, "2025-03-02T10:00:00", "5.00");
+        }
+
+        mockMvc.perform(get("/api/accounts/{id}", salesId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balanceShards").value(4))
+                .andExpect(jsonPath("$.balance").value(50.00));
+        mockMvc.perform(put("/api/accounts/{id}/balance-shards", salesId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"balanceShards": 2}
+                                """))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getAccount_notFound_returns404() throws Exception {
         mockMvc.perform(get("/api/accounts/{id}", 999999))
@@ -141,6 +227,58 @@ class AccountControllerIntegrationTest {
     }
 
 
+    @Test
+    void getAccount_asOf_usesSnapshotAndLaterEntries() throws Exception {
+        String cashResp = mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "AsOfCash", "type": "ASSET"}
+                                """))
+                .andReturn().getResponse().getContentAsString();
+        Long cashId = com.jayway.jsonpath.JsonPath.parse(cashResp).read("$.id", Long.class);
+
+        String revenueResp = mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "AsOfRevenue", "type": "REVENUE"}
+                                """))
+                .andReturn().getResponse().getContentAsString();
+        Long revenueId = com.jayway.jsonpath.JsonPath.parse(revenueResp).read("$.id", Long.class);
+
+        for (int day = 1; day <= 3; day++) {
+            postSale(cashId, revenueId, "2025-04-0%dT10:00:00".formatted(day), "10.00");
+        }
+        balanceSnapshotJob.snapshot(LocalDateTime.of(2025, 4, 3, 0, 0));
+
+        mockMvc.perform(get("/api/accounts/{id}", cashId).param("as_of", "2025-03-31T23:59:59"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(0));
+        mockMvc.perform(get("/api/accounts/{id}", cashId).param("as_of", "2025-04-02T12:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(20.00));
+        mockMvc.perform(get("/api/accounts/{id}", cashId).param("as_of", "2025-04-03T23:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(30.00));
+
+        postSale(cashId, revenueId, "2025-04-01T15:00:00", "5.00");
+
+        mockMvc.perform(get("/api/accounts/{id}", cashId).param("as_of", "2025-04-03T23:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(35.00));
+        mockMvc.perform(get("/api/accounts/{id}", revenueId).param("as_of", "2025-04-02T12:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(25.00));
+        mockMvc.perform(get("/api/accounts/{id}", cashId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(35.00));
+    }
+
+    @Test
+    void getAccount_invalidAsOf_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/accounts/{id}", 1).param("as_of", "yesterday"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getAllAccounts_returnsPaginatedList() throws Exception {
         mockMvc.perform(post("/api/accounts")
@@ -157,6 +295,44 @@ class AccountControllerIntegrationTest {
                 .andExpect(jsonPath("$.totalElements").isNumber());
     }
 
+    @Test
+    void getAllAccounts_includesBalances() throws Exception {
+        String cashResp = mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "ListCash", "type": "ASSET"}
+                                """))
+                .andReturn().getResponse().getContentAsString();
+        Long cashId = com.jayway.jsonpath.JsonPath.parse(cashResp).read("$.id", Long.class);
+
+        String revenueResp = mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "ListRevenue", "type": "REVENUE"}
+                                """))
+                .andReturn().getResponse().getContentAsString();
+        Long revenueId = com.jayway.jsonpath.JsonPath.parse(revenueResp).read("$.id", Long.class);
+
+        mockMvc.perform(post("/api/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "description": "Listing sale",
+                                  "date": "2025-01-15T10:00:00",
+                                  "entries": [
+                                    {"accountId": %d, "type": "DEBIT", "amount": 75.00},
+                                    {"accountId": %d, "type": "CREDIT", "amount": 75.00}
+                                  ]
+                                }
+                                """.formatted(cashId, revenueId)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/accounts").param("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(3))
+                .andExpect(jsonPath("$.content[?(@.id == %d)].balance".formatted(cashId)).value(75.00))
+                .andExpect(jsonPath("$.content[?(@.id == %d)].balance".formatted(revenueId)).value(75.00));
+    }
 
     @Test
     void getAccountTransactions_emptyList() throws Exception {
@@ -229,4 +405,134 @@ class AccountControllerIntegrationTest {
         mockMvc.perform(get("/api/accounts/{id}/transactions", 999999))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    void getAccount_shardedAccount_sumsBalanceShards() throws Exception {
+        String feesResp = mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "ShardedFees", "type": "REVENUE", "balanceShards": 8}
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.balanceShards").value(8))
+                .andReturn().getResponse().getContentAsString();
+        Long feesId = com.jayway.jsonpath.JsonPath.parse(feesResp).read("$.id", Long.class);
+
+        String cashResp = mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "ShardedCash", "type": "ASSET"}
+                                """))
+                .andExpect(jsonPath("$.balanceShards").value(1))
+                .andReturn().getResponse().getContentAsString();
+        Long cashId = com.jayway.jsonpath.JsonPath.parse(cashResp).read("$.id", Long.class);
+
+        for (int i = 0; i < 20; i++) {
+            postSale(cashId, feesId, "2025-05-01T10:00:00", "2.50");
+        }
+
+        mockMvc.perform(get("/api/accounts/{id}", feesId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(50.00));
+        mockMvc.perform(get("/api/accounts/{id}", cashId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(50.00));
+    }
+
+    @Test
+    void createAccount_tooManyBalanceShards_returnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "OverSharded", "type": "REVENUE", "balanceShards": 65}
+                                """))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getAccountTransactions_cursorPagination() throws Exception {
+        String cashResp = mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "CursorCash", "type": "ASSET"}
+                                """))
+                .andReturn().getResponse().getContentAsString();
+        Long cashId = com.jayway.jsonpath.JsonPath.parse(cashResp).read("$.id", Long.class);
+
+        String revenueResp = mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "CursorRevenue", "type": "REVENUE"}
+                                """))
+                .andReturn().getResponse().getContentAsString();
+        Long revenueId = com.jayway.jsonpath.JsonPath.parse(revenueResp).read("$.id", Long.class);
+
+        for (int day = 1; day <= 3; day++) {
+            mockMvc.perform(post("/api/transactions")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {
+                                      "description": "Day %d",
+                                      "date": "2025-02-0%dT10:00:00",
+                                      "entries": [
+                                        {"accountId": %d, "type": "DEBIT", "amount": 10.00},
+                                        {"accountId": %d, "type": "CREDIT", "amount": 10.00}
+                                      ]
+                                    }
+                                    """.formatted(day, day, cashId, revenueId)))
+                    .andExpect(status().isCreated());
+        }
+
+        String firstPage = mockMvc.perform(get("/api/accounts/{id}/transactions", cashId)
+                        .param("cursor", "")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(3))
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].description").value("Day 3"))
+                .andExpect(jsonPath("$.content[1].description").value("Day 2"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = com.jayway.jsonpath.JsonPath.parse(firstPage).read("$.nextCursor", String.class);
+
+        mockMvc.perform(get("/api/accounts/{id}/transactions", cashId)
+                        .param("cursor", nextCursor)
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].description").value("Day 1"))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getAccountTransactions_invalidCursor_returnsBadRequest() throws Exception {
+        String response = mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "CursorInvalid", "type": "ASSET"}
+                                """))
+                .andReturn().getResponse().getContentAsString();
+        Long id = com.jayway.jsonpath.JsonPath.parse(response).read("$.id", Long.class);
+
+        mockMvc.perform(get("/api/accounts/{id}/transactions", id).param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void postSale(Long debitAccountId, Long creditAccountId, String date, String amount) throws Exception {
+        mockMvc.perform(post("/api/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "description": "Sale",
+                                  "date": "%s",
+                                  "entries": [
+                                    {"accountId": %d, "type": "DEBIT", "amount": %s},
+                                    {"accountId": %d, "type": "CREDIT", "amount": %s}
+                                  ]
+                                }
+                                """.formatted(date, debitAccountId, amount, creditAccountId, amount)))
+                .andExpect(status().isCreated());
+    }
 }
@@ -0,0 +1,196 @@
+package com.luminary.ledger.api.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "ledger.import.chunk-size=2")
+@AutoConfigureMockMvc
+@Testcontainers
+@ActiveProfiles("test")
+class ImportControllerIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Long assetAccountId;
+    private Long revenueAccountId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String assetResp = mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "ImportAsset-%d", "type": "ASSET"}
+                                """.formatted(System.nanoTime())))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        assetAccountId = JsonPath.parse(assetResp).read("$.id", Long.class);
+
+        String revenueResp = mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "ImportRevenue-%d", "type": "REVENUE"}
+                                """.formatted(System.nanoTime())))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        revenueAccountId = JsonPath.parse(revenueResp).read("$.id", Long.class);
+    }
+
+    @Test
+    void importNdjson_postsAllTransactions() throws Exception {
+        mockMvc.perform(post("/api/imports").param("format", "ndjson")
+                        .contentType("application/x-ndjson")
+                        .content(ndjsonLine("One", 10) + ndjsonLine("Two", 20) + ndjsonLine("Three", 30)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.committedOffset").value(3))
+                .andExpect(jsonPath("$.importedTransactions").value(3));
+
+        mockMvc.perform(get("/api/accounts/{id}", assetAccountId))
+                .andExpect(jsonPath("$.balance").value(60.00));
+    }
+
+    @Test
+    void importCsv_groupsRowsByTransactionRef() throws Exception {
+        String csv = """
+                transaction_ref,description,date,account_id,type,amount
+                t1,"Sale, retail",2025-04-01T10:00:00,%1$d,DEBIT,15.00
+                t1,"Sale, retail",2025-04-01T10:00:00,%2$d,CREDIT,15.00
+                t2,Refund,2025-04-02T10:00:00,%2$d,DEBIT,5.00
+                t2,Refund,2025-04-02T10:00:00,%1$d,CREDIT,5.00
+                """.formatted(assetAccountId, revenueAccountId);
+
+        mockMvc.perform(post("/api/imports").param("format", "csv")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.committedOffset").value(5))
+                .andExpect(jsonPath("$.importedTransactions").value(2));
+
+        mockMvc.perform(get("/api/accounts/{id}", assetAccountId))
+                .andExpect(jsonPath("$.balance").value(10.00));
+    }
+
+    @Test
+    void importCsv_quotedFieldSpanningLines_countsPhysicalLines() throws Exception {
+        String csv = """
+                transaction_ref,description,date,account_id,type,amount
+                t1,"Sale
+                retail",2025-04-01T10:00:00,%1$d,DEBIT,15.00
+                t1,"Sale
+                retail",2025-04-01T10:00:00,%2$d,CREDIT,15.00
+                """.formatted(assetAccountId, revenueAccountId);
+
+        mockMvc.perform(post("/api/imports").param("format", "csv")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.committedOffset").value(5))
+                .andExpect(jsonPath("$.importedTransactions").value(1));
+
+        mockMvc.perform(get("/api/accounts/{id}", assetAccountId))
+                .andExpect(jsonPath("$.balance").value(15.00));
+    }
+
+    @Test
+    void importCsv_unterminatedQuote_failsAtLastLine() throws Exception {
+        String csv = """
+                transaction_ref,description,date,account_id,type,amount
+                t1,"Sale,2025-04-01T10:00:00,%1$d,DEBIT,15.00
+                t1,Sale,2025-04-01T10:00:00,%2$d,CREDIT,15.00
+                """.formatted(assetAccountId, revenueAccountId);
+
+        mockMvc.perform(post("/api/imports").param("format", "csv")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.status").value("FAILED"))
+                .andExpect(jsonPath("$.committedOffset").value(0))
+                .andExpect(jsonPath("$.failureReason").value(containsString("line 3: unterminated quoted field")));
+    }
+
+    @Test
+    void importFailure_canBeResumedFromCheckpoint() throws Exception {
+        String unbalanced = """
+                {"description": "Bad", "date": "2025-04-01T10:00:00", "entries": [\
+                {"accountId": %d, "type": "DEBIT", "amount": 1.00}, \
+                {"accountId": %d, "type": "CREDIT", "amount": 2.00}]}
+                """.formatted(assetAccountId, revenueAccountId);
+
+        String response = mockMvc.perform(post("/api/imports").param("format", "ndjson")
+                        .contentType("application/x-ndjson")
+                        .content(ndjsonLine("One", 10) + ndjsonLine("Two", 20) + unbalanced))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.status").value("FAILED"))
+                .andExpect(jsonPath("$.committedOffset").value(2))
+                .andReturn().getResponse().getContentAsString();
+        Long jobId = JsonPath.parse(response).read("$.id", Long.class);
+
+        mockMvc.perform(post("/api/imports/{id}/resume", jobId)
+                        .contentType("application/x-ndjson")
+                        .content(ndjsonLine("One", 10) + ndjsonLine("Two", 20) + ndjsonLine("Fixed", 1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.committedOffset").value(3))
+                .andExpect(jsonPath("$.importedTransactions").value(3));
+
+        mockMvc.perform(get("/api/accounts/{id}", assetAccountId))
+                .andExpect(jsonPath("$.balance").value(31.00));
+
+        mockMvc.perform(post("/api/imports/{id}/resume", jobId)
+                        .contentType("application/x-ndjson")
+                        .content(ndjsonLine("One", 10)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void importInvalidFormat_returnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/imports").param("format", "xml")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content("<transactions/>"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getImport_notFound_returns404() throws Exception {
+        mockMvc.perform(get("/api/imports/{id}", 999999))
+                .andExpect(status().isNotFound());
+    }
+
+    private String ndjsonLine(String description, int amount) {
+        return """
+                {"description": "%s", "date": "2025-04-01T10:00:00", "entries": [\
+                {"accountId": %d, "type": "DEBIT", "amount": %d}, \
+                {"accountId": %d, "type": "CREDIT", "amount": %d}]}
+                """.formatted(description, assetAccountId, amount, revenueAccountId, amount);
+    }
+}
@@ -0,0 +1,134 @@
+package com.luminary.ledger.api.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+@ActiveProfiles("test")
+class ReactiveAccountControllerIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void getAccount_matchesBlockingEndpoint() throws Exception {
+        Long cashId = createAccount("ReactiveCash", "ASSET");
+        Long revenueId = createAccount("ReactiveRevenue", "REVENUE");
+        postSale(cashId, revenueId, "2025-03-01T10:00:00", "125.50");
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/accounts/{id}", cashId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(cashId))
+                .andExpect(jsonPath("$.name").value("ReactiveCash"))
+                .andExpect(jsonPath("$.balance").value(125.50));
+    }
+
+    @Test
+    void getAccount_notFound() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/reactive/accounts/{id}", 999999))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getAccountTransactions_cursorPagination() throws Exception {
+        Long cashId = createAccount("ReactiveCursorCash", "ASSET");
+        Long revenueId = createAccount("ReactiveCursorRevenue", "REVENUE");
+        for (int day = 1; day <= 3; day++) {
+            postSale(cashId, revenueId, "2025-02-0%dT10:00:00".formatted(day), "10.00");
+        }
+
+        MvcResult first = mockMvc.perform(get("/api/reactive/accounts/{id}/transactions", cashId)
+                        .param("size", "2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String firstPage = mockMvc.perform(asyncDispatch(first))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].date").value("2025-02-03T10:00:00"))
+                .andExpect(jsonPath("$.content[0].entries", hasSize(2)))
+                .andExpect(jsonPath("$.content[1].date").value("2025-02-02T10:00:00"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = com.jayway.jsonpath.JsonPath.parse(firstPage).read("$.nextCursor", String.class);
+
+        MvcResult second = mockMvc.perform(get("/api/reactive/accounts/{id}/transactions", cashId)
+                        .param("cursor", nextCursor)
+                        .param("size", "2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(second))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].date").value("2025-02-01T10:00:00"))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getAccountTransactions_invalidSize_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/reactive/accounts/{id}/transactions", 1).param("size", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Long createAccount(String name, String type) throws Exception {
+        String response = mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "%s", "type": "%s"}
+                                """.formatted(name, type)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return com.jayway.jsonpath.JsonPath.parse(response).read("$.id", Long.class);
+    }
+
+    private void postSale(Long debitAccountId, Long creditAccountId, String date, String amount) throws Exception {
+        mockMvc.perform(post("/api/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "description": "Sale",
+                                  "date": "%s",
+                                  "entries": [
+                                    {"accountId": %d, "type": "DEBIT", "amount": %s},
+                                    {"accountId": %d, "type": "CREDIT", "amount": %s}
+                                  ]
+                                }
+                                """.formatted(date, debitAccountId, amount, creditAccountId, amount)))
+                .andExpect(status().isCreated());
+    }
+}
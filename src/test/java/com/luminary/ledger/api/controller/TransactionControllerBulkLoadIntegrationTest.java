@@ -0,0 +1,112 @@
+package com.luminary.ledger.api.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import static com.luminary.ledger.api.QueryBudgetMatchers.ranStatement;
+import static com.luminary.ledger.api.QueryBudgetMatchers.statementsAtMost;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "ledger.postings.bulk-load-threshold=2")
+@AutoConfigureMockMvc
+@Testcontainers
+@ActiveProfiles("test")
+class TransactionControllerBulkLoadIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void createTransactions_copiedBatch_readsBackThroughJpa() throws Exception {
+        Long cashId = createAccount("CopyCash", "ASSET");
+        Long salesId = createAccount("CopySales", "REVENUE");
+
+        String created = mockMvc.perform(post("/api/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "transactions": [
+                                    {
+                                      "description": "Copied one",
+                                      "date": "2025-03-01T09:00:00.123456",
+                                      "entries": [
+                                        {"accountId": %d, "type": "DEBIT", "amount": 125.50},
+                                        {"accountId": %d, "type": "CREDIT", "amount": 125.50}
+                                      ]
+                                    },
+                                    {
+                                      "description": "Copied twö",
+                                      "date": "2025-03-02T10:00:00",
+                                      "entries": [
+                                        {"accountId": %d, "type": "DEBIT", "amount": 0.0050},
+                                        {"accountId": %d, "type": "CREDIT", "amount": 0.0050}
+                                      ]
+                                    }
+                                  ]
+                                }
+                                """.formatted(cashId, salesId, cashId, salesId)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[1].entries[1].id").isNumber())
+                .andExpect(ranStatement("COPY transaction_entries "))
+                .andExpect(statementsAtMost(9))
+                .andReturn().getResponse().getContentAsString();
+        Long firstId = JsonPath.parse(created).read("$[0].id", Long.class);
+        Long secondId = JsonPath.parse(created).read("$[1].id", Long.class);
+
+        mockMvc.perform(get("/api/transactions/{id}", firstId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.date").value("2025-03-01T09:00:00.123456"))
+                .andExpect(jsonPath("$.entries", hasSize(2)))
+                .andExpect(jsonPath("$.totalAmount").value(125.50));
+
+        mockMvc.perform(get("/api/transactions/{id}", secondId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value("Copied twö"))
+                .andExpect(jsonPath("$.totalAmount").value(0.005));
+
+        mockMvc.perform(get("/api/accounts/{id}/transactions", cashId).param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(secondId))
+                .andExpect(jsonPath("$.content[1].id").value(firstId));
+
+        mockMvc.perform(get("/api/accounts/{id}", salesId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(125.505));
+    }
+
+    private Long createAccount(String name, String type) throws Exception {
+        String response = mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "%s", "type": "%s"}
+                                """.formatted(name, type)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.parse(response).read("$.id", Long.class);
+    }
+}
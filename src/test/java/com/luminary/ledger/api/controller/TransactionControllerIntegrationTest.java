@@ -1,12 +1,14 @@
 package com.luminary.ledger.api.controller;
 
 import com.jayway.jsonpath.JsonPath;
+import com.luminary.ledger.service.PartitionMaintenanceJob;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -15,7 +17,10 @@ import org.testcontainers.postgresql.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.time.YearMonth;
+
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -39,6 +44,12 @@ class TransactionControllerIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private PartitionMaintenanceJob partitionMaintenanceJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private Long assetAccountId;
     private Long revenueAccountId;
 
@@ -112,6 +123,39 @@ class TransactionControllerIntegrationTest {
                 .andExpect(jsonPath("$.entries", hasSize(2)));
     }
 
+    @Test
+    void createPartitions_monthAlreadyInDefaultPartition_movesItsRowsIntoNewPartition() throws Exception {
+        YearMonth beyondHorizon = YearMonth.now().plusMonths(6);
+        String txResp = mockMvc.perform(post("/api/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "description": "Far ahead",
+                                  "date": "%sT10:00:00",
+                                  "entries": [
+                                    {"accountId": %d, "type": "DEBIT", "amount": 40.00},
+                                    {"accountId": %d, "type": "CREDIT", "amount": 40.00}
+                                  ]
+                                }
+                                """.formatted(beyondHorizon.atDay(10), assetAccountId, revenueAccountId)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long txId = JsonPath.parse(txResp).read("$.id", Long.class);
+        assertEquals(1, countRows("transactions_default", txId));
+
+        assertEquals(2, partitionMaintenanceJob.createPartitions(beyondHorizon));
+
+        String suffix = "_y%dm%02d".formatted(beyondHorizon.getYear(), beyondHorizon.getMonthValue());
+        assertEquals(0, countRows("transactions_default", txId));
+        assertEquals(1, countRows("transactions" + suffix, txId));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT count(*) FROM transaction_entries" + suffix
+                + " WHERE transaction_id = ?", Integer.class, txId));
+        mockMvc.perform(get("/api/transactions/{id}", txId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries", hasSize(2)));
+        assertEquals(0, partitionMaintenanceJob.createPartitions(beyondHorizon));
+    }
+
     @Test
     void getTransaction_notFound_returns404() throws Exception {
         mockMvc.perform(get("/api/transactions/{id}", 999999))
@@ -119,6 +163,11 @@ class TransactionControllerIntegrationTest {
                 .andExpect(jsonPath("$.status").value(404));
     }
 
+    private int countRows(String table, Long transactionId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table + " WHERE id = ?", Integer.class,
+                transactionId);
+    }
+
     @Test
     void createTransaction_unbalanced_returnsBadRequest() throws Exception {
         mockMvc.perform(post("/api/transactions")
@@ -137,6 +186,29 @@ class TransactionControllerIntegrationTest {
                 .andExpect(jsonPath("$.status").value(400));
     }
 
+    @Test
+    void createTransaction_unbalanced_countsRejection() throws Exception {
+        mockMvc.perform(post("/api/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "description": "Lopsided",
+                                  "date": "2025-03-01T09:00:00",
+                                  "entries": [
+                                    {"accountId": %d, "type": "DEBIT", "amount": 10.00},
+                                    {"accountId": %d, "type": "CREDIT", "amount": 9.00}
+                                  ]
+                                }
+                                """.formatted(assetAccountId, revenueAccountId)))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "ledger_requests_rejected_total{application=\"ledger-service\",exception=\"UnbalancedTransactionException\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds")));
+    }
+
     @Test
     void createTransaction_singleEntry_returnsBadRequest() throws Exception {
         mockMvc.perform(post("/api/transactions")
@@ -275,6 +347,134 @@ class TransactionControllerIntegrationTest {
                 .andExpect(jsonPath("$.balance").value(500.00));
     }
 
+    @Test
+    void createTransaction_repeatedIdempotencyKey_postsOnce() throws Exception {
+        String key = "payment-" + System.nanoTime();
+        String body = """
+                {
+                  "description": "Idempotent payment",
+                  "date": "2025-03-01T10:00:00",
+                  "entries": [
+                    {"accountId": %d, "type": "DEBIT", "amount": 75.00},
+                    {"accountId": %d, "type": "CREDIT", "amount": 75.00}
+                  ]
+                }
+                """.formatted(assetAccountId, revenueAccountId);
+
+        String first = mockMvc.perform(post("/api/transactions")
+                        .header(TransactionController.IDEMPOTENCY_KEY, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(TransactionController.IDEMPOTENT_REPLAYED, "false"))
+                .andReturn().getResponse().getContentAsString();
+        Long transactionId = JsonPath.parse(first).read("$.id", Long.class);
+
+        mockMvc.perform(post("/api/transactions")
+                        .header(TransactionController.IDEMPOTENCY_KEY, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(TransactionController.IDEMPOTENT_REPLAYED, "true"))
+                .andExpect(jsonPath("$.id").value(transactionId));
+
+        mockMvc.perform(get("/api/accounts/{id}", assetAccountId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(75.00));
+    }
+
+    @Test
+    void createTransaction_idempotencyKeyReusedWithDifferentRequest_isRejected() throws Exception {
+        String key = "payment-" + System.nanoTime();
+        String body = """
+                {
+                  "description": "Keyed payment",
+                  "date": "2025-03-01T10:00:00",
+                  "entries": [
+                    {"accountId": %d, "type": "DEBIT", "amount": %s},
+                    {"accountId": %d, "type": "CREDIT", "amount": %s}
+                  ]
+                }
+                """;
+
+        mockMvc.perform(post("/api/transactions")
+                        .header(TransactionController.IDEMPOTENCY_KEY, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.formatted(assetAccountId, "40", revenueAccountId, "40")))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(TransactionController.IDEMPOTENT_REPLAYED, "false"));
+
+        mockMvc.perform(post("/api/transactions")
+                        .header(TransactionController.IDEMPOTENCY_KEY, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.formatted(assetAccountId, "40.00", revenueAccountId, "40.00")))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(TransactionController.IDEMPOTENT_REPLAYED, "true"));
+
+        mockMvc.perform(post("/api/transactions")
+                        .header(TransactionController.IDEMPOTENCY_KEY, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.formatted(assetAccountId, "90", revenueAccountId, "90")))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.status").value(422));
+
+        mockMvc.perform(get("/api/accounts/{id}", assetAccountId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(40.00));
+    }
+
+    @Test
+    void createTransaction_ifMatchCurrentBalance_postsAndStaleVersionIsRejected() throws Exception {
+        String eTag = mockMvc.perform(get("/api/accounts/{id}", assetAccountId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        String body = """
+                {
+                  "description": "Conditional payment",
+                  "date": "2025-03-01T10:00:00",
+                  "entries": [
+                    {"accountId": %d, "type": "DEBIT", "amount": 20.00},
+                    {"accountId": %d, "type": "CREDIT", "amount": 20.00}
+                  ]
+                }
+                """.formatted(assetAccountId, revenueAccountId);
+
+        mockMvc.perform(post("/api/transactions")
+                        .header("If-Match", eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/transactions")
+                        .header("If-Match", eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412));
+
+        mockMvc.perform(get("/api/accounts/{id}", assetAccountId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(20.00));
+    }
+
+    @Test
+    void createTransaction_malformedIfMatch_returnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/transactions")
+                        .header("If-Match", "W/\"1.0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "description": "Weak tag",
+                                  "date": "2025-03-01T10:00:00",
+                                  "entries": [
+                                    {"accountId": %d, "type": "DEBIT", "amount": 20.00},
+                                    {"accountId": %d, "type": "CREDIT", "amount": 20.00}
+                                  ]
+                                }
+                                """.formatted(assetAccountId, revenueAccountId)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void createTransaction_multipleEntries_balanced() throws Exception {
         String expenseResp = mockMvc.perform(post("/api/accounts")
@@ -303,4 +503,85 @@ class TransactionControllerIntegrationTest {
                 .andExpect(jsonPath("$.entries", hasSize(3)))
                 .andExpect(jsonPath("$.totalAmount").value(500.00));
     }
+
+    @Test
+    void createTransactions_batch_returnsCreated() throws Exception {
+        mockMvc.perform(post("/api/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "transactions": [
+                                    {
+                                      "description": "Batch one",
+                                      "date": "2025-03-02T10:00:00",
+                                      "entries": [
+                                        {"accountId": %d, "type": "DEBIT", "amount": 100.00},
+                                        {"accountId": %d, "type": "CREDIT", "amount": 100.00}
+                                      ]
+                                    },
+                                    {
+                                      "description": "Batch two",
+                                      "date": "2025-03-02T11:00:00",
+                                      "entries": [
+                                        {"accountId": %d, "type": "DEBIT", "amount": 40.00},
+                                        {"accountId": %d, "type": "CREDIT", "amount": 40.00}
+                                      ]
+                                    }
+                                  ]
+                                }
+                                """.formatted(assetAccountId, revenueAccountId, assetAccountId, revenueAccountId)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").isNumber())
+                .andExpect(jsonPath("$[0].description").value("Batch one"))
+                .andExpect(jsonPath("$[1].description").value("Batch two"))
+                .andExpect(jsonPath("$[1].entries", hasSize(2)));
+
+        mockMvc.perform(get("/api/accounts/{id}", assetAccountId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(140.00));
+    }
+
+    @Test
+    void createTransactions_batchWithUnbalancedTransaction_postsNothing() throws Exception {
+        mockMvc.perform(post("/api/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "transactions": [
+                                    {
+                                      "description": "Balanced",
+                                      "date": "2025-03-02T10:00:00",
+                                      "entries": [
+                                        {"accountId": %d, "type": "DEBIT", "amount": 100.00},
+                                        {"accountId": %d, "type": "CREDIT", "amount": 100.00}
+                                      ]
+                                    },
+                                    {
+                                      "description": "Unbalanced",
+                                      "date": "2025-03-02T11:00:00",
+                                      "entries": [
+                                        {"accountId": %d, "type": "DEBIT", "amount": 40.00},
+                                        {"accountId": %d, "type": "CREDIT", "amount": 30.00}
+                                      ]
+                                    }
+                                  ]
+                                }
+                                """.formatted(assetAccountId, revenueAccountId, assetAccountId, revenueAccountId)))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/accounts/{id}", assetAccountId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(0));
+    }
+
+    @Test
+    void createTransactions_emptyBatch_returnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"transactions": []}
+                                """))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,100 @@
+package com.luminary.ledger.api.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.luminary.ledger.persistence.writer.JdbcTransactionWriter;
+import com.luminary.ledger.persistence.writer.TransactionWriter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import static com.luminary.ledger.api.QueryBudgetMatchers.ranStatement;
+import static com.luminary.ledger.api.QueryBudgetMatchers.statementsAtMost;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "ledger.postings.writer=jdbc")
+@AutoConfigureMockMvc
+@Testcontainers
+@ActiveProfiles("test")
+class TransactionControllerJdbcWriterIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TransactionWriter transactionWriter;
+
+    @Test
+    void createTransaction_jdbcWriter_readsBackThroughJpa() throws Exception {
+        assertInstanceOf(JdbcTransactionWriter.class, transactionWriter);
+        Long cashId = createAccount("JdbcCash", "ASSET");
+        Long salesId = createAccount("JdbcSales", "REVENUE");
+
+        String created = mockMvc.perform(post("/api/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "description": "Written with JDBC",
+                                  "date": "2025-03-01T09:00:00",
+                                  "entries": [
+                                    {"accountId": %d, "type": "DEBIT", "amount": 125.50},
+                                    {"accountId": %d, "type": "CREDIT", "amount": 125.50}
+                                  ]
+                                }
+                                """.formatted(cashId, salesId)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.entries[0].id").isNumber())
+                .andExpect(ranStatement("SELECT nextval('transaction_entries_id_seq')"))
+                .andExpect(ranStatement("INSERT INTO transaction_entries "))
+                .andExpect(statementsAtMost(9))
+                .andReturn().getResponse().getContentAsString();
+        Long transactionId = JsonPath.parse(created).read("$.id", Long.class);
+
+        mockMvc.perform(get("/api/transactions/{id}", transactionId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value("Written with JDBC"))
+                .andExpect(jsonPath("$.entries", hasSize(2)))
+                .andExpect(jsonPath("$.totalAmount").value(125.50));
+
+        mockMvc.perform(get("/api/accounts/{id}/transactions", cashId).param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(transactionId));
+
+        mockMvc.perform(get("/api/accounts/{id}", salesId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(125.50));
+    }
+
+    private Long createAccount(String name, String type) throws Exception {
+        String response = mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "%s", "type": "%s"}
+                                """.formatted(name, type)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.parse(response).read("$.id", Long.class);
+    }
+}
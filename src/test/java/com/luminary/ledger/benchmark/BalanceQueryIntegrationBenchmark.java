@@ -0,0 +1,146 @@
+package com.luminary.ledger.benchmark;
+
+import com.luminary.ledger.domain.enums.EntryType;
+import com.luminary.ledger.persistence.repository.TransactionEntryRepository;
+import com.luminary.ledger.persistence.repository.TransactionEntryRepository.EntryTotals;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Testcontainers
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BalanceQueryIntegrationBenchmark {
+
+    private static final int ENTRIES = Integer.getInteger("benchmark.entries", 200_000);
+    private static final int WARMUP = Integer.getInteger("benchmark.warmup", 200);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 1_000);
+
+    @Container
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TransactionEntryRepository entryRepository;
+
+    private Long accountId;
+
+    @BeforeAll
+    void seed() {
+        accountId = jdbcTemplate.queryForObject(
+                "INSERT INTO accounts (name, type) VALUES ('Benchmark Clearing', 'ASSET') RETURNING id", Long.class);
+        Long counterpartyId = jdbcTemplate.queryForObject(
+                "INSERT INTO accounts (name, type) VALUES ('Benchmark Counterparty', 'LIABILITY') RETURNING id", Long.class);
+        jdbcTemplate.update("INSERT INTO transactions (description, date) " +
+                "SELECT 'benchmark ' || g, now() FROM generate_series(1, ?) g", ENTRIES / 2);
+        jdbcTemplate.update("INSERT INTO transaction_entries (transaction_id, account_id, entry_type, amount, " +
+                "transaction_date) " +
+                "SELECT t.id, CASE WHEN e = 0 THEN ? ELSE ? END, " +
+                "CASE WHEN (t.id + e) % 2 = 0 THEN 'DEBIT' ELSE 'CREDIT' END, 10.0000, t.date " +
+                "FROM transactions t CROSS JOIN generate_series(0, 1) e", accountId, counterpartyId);
+        jdbcTemplate.execute("ANALYZE transaction_entries");
+    }
+
+    @Test
+    void singleAggregateVersusTwoQueries() {
+        Result twoQueries = measure("two SUM queries", this::twoQueryTotals);
+        Result singleQuery = measure("single SUM(CASE) query", this::singleQueryTotals);
+
+        System.out.printf("%nBalance aggregation over %,d entries (%d iterations)%n", ENTRIES, ITERATIONS);
+        System.out.println(twoQueries);
+        System.out.println(singleQuery);
+
+        assertEquals(twoQueries.checksum(), singleQuery.checksum());
+        assertEquals(2.0, twoQueries.statementsPerCall());
+        assertEquals(1.0, singleQuery.statementsPerCall());
+    }
+
+    private BigDecimal[] twoQueryTotals() {
+        String jpql = "SELECT COALESCE(SUM(e.amount), 0) FROM TransactionEntryEntity e " +
+                "WHERE e.account.id = :accountId AND e.entryType = :entryType";
+        BigDecimal debits = entityManager.createQuery(jpql, BigDecimal.class)
+                .setParameter("accountId", accountId)
+                .setParameter("entryType", EntryType.DEBIT)
+                .getSingleResult();
+        BigDecimal credits = entityManager.createQuery(jpql, BigDecimal.class)
+                .setParameter("accountId", accountId)
+                .setParameter("entryType", EntryType.CREDIT)
+                .getSingleResult();
+        return new BigDecimal[]{debits, credits};
+    }
+
+    private BigDecimal[] singleQueryTotals() {
+        EntryTotals totals = entryRepository.sumTotalsByAccountId(accountId);
+        return new BigDecimal[]{totals.getDebitTotal(), totals.getCreditTotal()};
+    }
+
+    private Result measure(String name, Supplier<BigDecimal[]> query) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (int i = 0; i < WARMUP; i++) {
+            transactionTemplate.execute(status -> query.get());
+        }
+
+        long[] latencies = new long[ITERATIONS];
+        BigDecimal[] checksum = null;
+        statistics.clear();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            checksum = transactionTemplate.execute(status -> query.get());
+            latencies[i] = System.nanoTime() - start;
+        }
+        double statementsPerCall = (double) statistics.getPrepareStatementCount() / ITERATIONS;
+
+        Arrays.sort(latencies);
+        return new Result(name, statementsPerCall,
+                latencies[ITERATIONS / 2], latencies[(int) (ITERATIONS * 0.99)],
+                checksum[0].stripTrailingZeros().toPlainString() + "/" + checksum[1].stripTrailingZeros().toPlainString());
+    }
+
+    private record Result(String name, double statementsPerCall, long p50Nanos, long p99Nanos, String checksum) {
+
+        @Override
+        public String toString() {
+            return "%-24s statements/call=%.1f p50=%.3f ms p99=%.3f ms".formatted(
+                    name, statementsPerCall, p50Nanos / 1_000_000.0, p99Nanos / 1_000_000.0);
+        }
+    }
+}
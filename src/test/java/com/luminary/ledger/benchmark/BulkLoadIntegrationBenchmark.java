@@ -0,0 +1,136 @@
+package com.luminary.ledger.benchmark;
+
+import com.luminary.ledger.domain.enums.EntryType;
+import com.luminary.ledger.domain.model.Transaction;
+import com.luminary.ledger.domain.model.TransactionEntry;
+import com.luminary.ledger.domain.vo.Money;
+import com.luminary.ledger.persistence.mapper.TransactionEntityMapper;
+import com.luminary.ledger.persistence.repository.AccountRepository;
+import com.luminary.ledger.persistence.repository.TransactionRepository;
+import com.luminary.ledger.persistence.writer.JdbcTransactionWriter;
+import com.luminary.ledger.persistence.writer.JpaTransactionWriter;
+import com.luminary.ledger.persistence.writer.TransactionBulkLoader;
+import com.luminary.ledger.persistence.writer.TransactionWriter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BulkLoadIntegrationBenchmark {
+
+    private static final int CHUNK = Integer.getInteger("benchmark.chunk", 500);
+    private static final int CHUNKS = Integer.getInteger("benchmark.chunks", 200);
+    private static final int ENTRIES = Integer.getInteger("benchmark.entries", 2);
+    private static final int WARMUP = Integer.getInteger("benchmark.warmup", 20);
+
+    @Container
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionEntityMapper transactionMapper;
+
+    private Long debitAccountId;
+    private Long creditAccountId;
+
+    @BeforeAll
+    void seed() {
+        debitAccountId = jdbcTemplate.queryForObject(
+                "INSERT INTO accounts (name, type) VALUES ('Bulk Cash', 'ASSET') RETURNING id", Long.class);
+        creditAccountId = jdbcTemplate.queryForObject(
+                "INSERT INTO accounts (name, type) VALUES ('Bulk Sales', 'REVENUE') RETURNING id", Long.class);
+    }
+
+    @Test
+    void copyVersusSaveAndBatchedInserts() {
+        Result jpa = measure("JPA saveAll()",
+                new JpaTransactionWriter(transactionRepository, accountRepository, transactionMapper));
+        Result jdbc = measure("JDBC batched INSERTs", new JdbcTransactionWriter(jdbcTemplate));
+        Result copy = measure("Binary COPY", new TransactionBulkLoader(jdbcTemplate)::load);
+
+        System.out.printf("%nLoading %d chunks of %d transactions with %d entries each%n", CHUNKS, CHUNK, ENTRIES);
+        System.out.println(jpa);
+        System.out.println(jdbc);
+        System.out.println(copy);
+
+        Integer written = jdbcTemplate.queryForObject("SELECT count(*) FROM transaction_entries", Integer.class);
+        assertEquals(3 * (WARMUP + CHUNKS) * CHUNK * ENTRIES, written);
+    }
+
+    private Result measure(String name, TransactionWriter writer) {
+        for (int i = 0; i < WARMUP; i++) {
+            List<Transaction> chunk = chunk();
+            transactionTemplate.execute(status -> writer.insertAll(chunk));
+        }
+
+        long elapsed = 0;
+        for (int i = 0; i < CHUNKS; i++) {
+            List<Transaction> chunk = chunk();
+            long start = System.nanoTime();
+            transactionTemplate.execute(status -> writer.insertAll(chunk));
+            elapsed += System.nanoTime() - start;
+        }
+        long rows = (long) CHUNKS * CHUNK * (1 + ENTRIES);
+        return new Result(name, elapsed / 1_000_000_000.0, rows);
+    }
+
+    private List<Transaction> chunk() {
+        LocalDateTime date = LocalDateTime.now();
+        List<Transaction> transactions = new ArrayList<>(CHUNK);
+        for (int t = 0; t < CHUNK; t++) {
+            List<TransactionEntry> entries = new ArrayList<>(ENTRIES);
+            for (int e = 0; e < ENTRIES; e++) {
+                entries.add(e % 2 == 0
+                        ? TransactionEntry.create(debitAccountId, EntryType.DEBIT, Money.of("12.34"))
+                        : TransactionEntry.create(creditAccountId, EntryType.CREDIT, Money.of("12.34")));
+            }
+            transactions.add(Transaction.create("Bulk load benchmark", date, entries));
+        }
+        return transactions;
+    }
+
+    private record Result(String name, double seconds, long rows) {
+
+        @Override
+        public String toString() {
+            return "%-22s %8.2f s %,12.0f rows/s".formatted(name, seconds, rows / seconds);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.luminary.ledger.benchmark;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HistoryQueryPlanIntegrationBenchmark {
+
+    private static final long ENTRIES = Long.getLong("benchmark.history.entries", 10_000_000L);
+    private static final int ACCOUNTS = Integer.getInteger("benchmark.history.accounts", 1_000);
+    private static final int PAGE_SIZE = 20;
+    private static final long DEEP_OFFSET = Long.getLong("benchmark.history.offset", 100_000L);
+
+    @Container
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine")
+            .withCommand("postgres", "-c", "shared_buffers=512MB", "-c", "max_wal_size=4GB");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long hotAccountId;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO accounts (name, type) " +
+                "SELECT 'History ' || g, 'ASSET' FROM generate_series(1, ?) g", ACCOUNTS);
+        hotAccountId = jdbcTemplate.queryForObject("SELECT min(id) FROM accounts", Long.class);
+
+        // Every transaction credits the hot account and debits one of the other accounts.
+        long transactions = ENTRIES / 2;
+        jdbcTemplate.queryForList("SELECT create_ledger_partitions(CAST(m AS DATE)) " +
+                "FROM generate_series(timestamp '2020-01-01', timestamp '2020-01-01' + ? * interval '1 minute', " +
+                "interval '1 month') m", transactions);
+        jdbcTemplate.update("INSERT INTO transactions (description, date) " +
+                "SELECT 'history ' || g, timestamp '2020-01-01' + g * interval '1 minute' " +
+                "FROM generate_series(1, ?) g", transactions);
+        jdbcTemplate.update("INSERT INTO transaction_entries " +
+                "(transaction_id, account_id, entry_type, amount, transaction_date) " +
+                "SELECT t.id, CASE WHEN e = 0 THEN ? ELSE ? + 1 + t.id % (? - 1) END, " +
+                "CASE WHEN e = 0 THEN 'CREDIT' ELSE 'DEBIT' END, 1.0000, t.date " +
+                "FROM transactions t CROSS JOIN generate_series(0, 1) e",
+                hotAccountId, hotAccountId, ACCOUNTS);
+        jdbcTemplate.execute("VACUUM ANALYZE transactions");
+        jdbcTemplate.execute("VACUUM ANALYZE transaction_entries");
+    }
+
+    @Test
+    void historyPlans() {
+        String legacyIds = ("SELECT DISTINCT t.id FROM transactions t JOIN transaction_entries e " +
+                "ON e.transaction_id = t.id WHERE e.account_id = %d LIMIT %d OFFSET %d")
+                .formatted(hotAccountId, PAGE_SIZE, DEEP_OFFSET);
+        String legacyCount = ("SELECT count(DISTINCT t.id) FROM transactions t JOIN transaction_entries e " +
+                "ON e.transaction_id = t.id WHERE e.account_id = %d").formatted(hotAccountId);
+        String offsetIds = ("SELECT transaction_id FROM transaction_entries WHERE account_id = %d " +
+                "GROUP BY transaction_date, transaction_id " +
+                "ORDER BY transaction_date DESC, transaction_id DESC LIMIT %d OFFSET %d")
+                .formatted(hotAccountId, PAGE_SIZE, DEEP_OFFSET);
+
+        List<Object> cursor = jdbcTemplate.queryForObject(offsetIds.replace("SELECT transaction_id",
+                        "SELECT transaction_date, transaction_id"),
+                (rs, i) -> List.of(rs.getTimestamp(1), rs.getLong(2)));
+        String keysetIds = ("SELECT transaction_id FROM transaction_entries WHERE account_id = %d " +
+                "AND transaction_date <= '%s' AND (transaction_date < '%s' OR transaction_id < %d) " +
+                "GROUP BY transaction_date, transaction_id " +
+                "ORDER BY transaction_date DESC, transaction_id DESC LIMIT %d")
+                .formatted(hotAccountId, cursor.get(0), cursor.get(0), (Long) cursor.get(1), PAGE_SIZE);
+
+        System.out.printf("%nAccount history plans over %,d entries (hot account has %,d entries, offset %,d)%n",
+                ENTRIES, ENTRIES / 2, DEEP_OFFSET);
+        explain("legacy DISTINCT join ids", legacyIds);
+        explain("legacy DISTINCT join count", legacyCount);
+        explain("denormalized offset ids", offsetIds);
+        String keysetPlan = explain("denormalized keyset ids", keysetIds);
+
+        // Each monthly partition has its own copy of idx_entries_account_date_txn, named after the partition.
+        assertTrue(keysetPlan.contains("account_id_transaction_date"), keysetPlan);
+    }
+
+    private String explain(String name, String sql) {
+        String plan = String.join("\n",
+                jdbcTemplate.queryForList("EXPLAIN (ANALYZE, BUFFERS) " + sql, String.class));
+        System.out.printf("%n=== %s%n%s%n", name, plan);
+        return plan;
+    }
+}
@@ -0,0 +1,141 @@
+package com.luminary.ledger.benchmark;
+
+import com.luminary.ledger.domain.enums.AccountType;
+import com.luminary.ledger.domain.enums.EntryType;
+import com.luminary.ledger.domain.model.Transaction;
+import com.luminary.ledger.domain.model.TransactionEntry;
+import com.luminary.ledger.domain.vo.AccountName;
+import com.luminary.ledger.domain.vo.Money;
+import com.luminary.ledger.service.AccountService;
+import com.luminary.ledger.service.BalanceCalculator;
+import com.luminary.ledger.service.TransactionService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=32",
+        "ledger.balances.snapshots.enabled=false",
+        "ledger.balances.reconciliation.enabled=false"
+})
+@Testcontainers
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HotAccountPostingIntegrationBenchmark {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 16);
+    private static final int POSTINGS = Integer.getInteger("benchmark.postings", 4_000);
+    private static final int CUSTOMERS = Integer.getInteger("benchmark.customers", 1_000);
+    private static final int[] SHARDS = Arrays.stream(System.getProperty("benchmark.shards", "1,2,4,8,16").split(","))
+            .mapToInt(Integer::parseInt)
+            .toArray();
+
+    @Container
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BalanceCalculator balanceCalculator;
+
+    private long firstCustomerId;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO accounts (name, type) " +
+                "SELECT 'Customer ' || g, 'ASSET' FROM generate_series(1, ?) g", CUSTOMERS);
+        firstCustomerId = jdbcTemplate.queryForObject("SELECT min(id) FROM accounts", Long.class);
+        jdbcTemplate.update("INSERT INTO account_balance_shards (account_id) SELECT id FROM accounts");
+    }
+
+    @Test
+    void postingThroughputScalesWithShards() throws Exception {
+        List<Result> results = new ArrayList<>();
+        for (int shards : SHARDS) {
+            results.add(measure(shards));
+        }
+
+        System.out.printf("%nPostings into one hot account (%,d postings, %d threads)%n", POSTINGS, THREADS);
+        results.forEach(System.out::println);
+    }
+
+    private Result measure(int shards) throws Exception {
+        Long hotAccountId = accountService.createAccount(
+                AccountName.of("Hot fees x" + shards), AccountType.REVENUE, shards).getId();
+        AtomicInteger remaining = new AtomicInteger(POSTINGS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(executor.submit(() -> {
+                    int n;
+                    while ((n = remaining.getAndDecrement()) > 0) {
+                        transactionService.createTransaction(fee(firstCustomerId + n % CUSTOMERS, hotAccountId));
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        BigDecimal balance = balanceCalculator.calculateBalance(hotAccountId, AccountType.REVENUE);
+        assertEquals(0, new BigDecimal(POSTINGS).compareTo(balance));
+        Integer shardRows = jdbcTemplate.queryForObject("SELECT count(*) FROM account_balance_shards " +
+                "WHERE account_id = ? AND version > 0", Integer.class, hotAccountId);
+        return new Result(shards, shardRows, POSTINGS / (elapsed / 1_000_000_000.0));
+    }
+
+    private Transaction fee(Long customerId, Long hotAccountId) {
+        return Transaction.create("Fee", LocalDateTime.now(), List.of(
+                TransactionEntry.create(customerId, EntryType.DEBIT, Money.of("1.00")),
+                TransactionEntry.create(hotAccountId, EntryType.CREDIT, Money.of("1.00"))));
+    }
+
+    private record Result(int shards, int shardRows, double postingsPerSecond) {
+
+        @Override
+        public String toString() {
+            return "shards=%-3d rows used=%-3d %,10.0f postings/s".formatted(shards, shardRows, postingsPerSecond);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.luminary.ledger.benchmark;
+
+import com.luminary.ledger.api.dto.CreateTransactionRequest;
+import com.luminary.ledger.api.dto.TransactionEntryRequest;
+import com.luminary.ledger.domain.enums.AccountType;
+import com.luminary.ledger.domain.enums.EntryType;
+import com.luminary.ledger.domain.model.Transaction;
+import com.luminary.ledger.domain.model.TransactionEntry;
+import com.luminary.ledger.domain.vo.Money;
+import com.luminary.ledger.persistence.entity.AccountEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class LedgerFixtures {
+
+    static final LocalDateTime DATE = LocalDateTime.of(2025, 1, 15, 10, 0);
+
+    private LedgerFixtures() {
+    }
+
+    // Half debits, half credits, so any even entry count is balanced.
+    static List<TransactionEntry> entries(int count) {
+        List<TransactionEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            EntryType type = i % 2 == 0 ? EntryType.DEBIT : EntryType.CREDIT;
+            entries.add(new TransactionEntry((long) i + 1, accountId(i), type, Money.of(amount(i / 2)), DATE));
+        }
+        return entries;
+    }
+
+    static Transaction transaction(int entryCount) {
+        return new Transaction(1L, "Benchmark posting", DATE, entries(entryCount), DATE);
+    }
+
+    static CreateTransactionRequest request(int entryCount) {
+        List<TransactionEntryRequest> entries = new ArrayList<>(entryCount);
+        for (int i = 0; i < entryCount; i++) {
+            entries.add(new TransactionEntryRequest(accountId(i), i % 2 == 0 ? "DEBIT" : "CREDIT", amount(i / 2)));
+        }
+        return new CreateTransactionRequest("Benchmark posting", DATE, entries);
+    }
+
+    static Map<Long, AccountEntity> accounts(int entryCount) {
+        Map<Long, AccountEntity> accounts = new HashMap<>();
+        for (int i = 0; i < entryCount; i++) {
+            AccountEntity account = new AccountEntity();
+            account.setId(accountId(i));
+            account.setName("Account " + accountId(i));
+            account.setType(AccountType.ASSET);
+            account.setCreatedAt(DATE);
+            account.setUpdatedAt(DATE);
+            accounts.put(account.getId(), account);
+        }
+        return accounts;
+    }
+
+    private static long accountId(int index) {
+        return index % 50 + 1;
+    }
+
+    private static BigDecimal amount(int pair) {
+        return BigDecimal.valueOf(1_000 + pair * 37L, 2);
+    }
+}
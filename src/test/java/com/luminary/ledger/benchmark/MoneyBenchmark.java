@@ -0,0 +1,61 @@
+package com.luminary.ledger.benchmark;
+
+import com.luminary.ledger.domain.vo.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+
+    private Money left;
+    private Money right;
+    private BigDecimal rawAmount;
+    private Money[] amounts;
+
+    @Setup
+    public void setUp() {
+        left = Money.of("1234.5678");
+        right = Money.of("765.4322");
+        rawAmount = new BigDecimal("99.99");
+        amounts = new Money[100];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = Money.of(BigDecimal.valueOf(1_000 + i * 37L, 2));
+        }
+    }
+
+    @Benchmark
+    public Money of() {
+        return Money.of(rawAmount);
+    }
+
+    @Benchmark
+    public Money add() {
+        return left.add(right);
+    }
+
+    @Benchmark
+    public Money subtract() {
+        return left.subtract(right);
+    }
+
+    @Benchmark
+    public boolean compare() {
+        return left.equals(right);
+    }
+
+    @Benchmark
+    public Money sumHundred() {
+        Money total = Money.ZERO;
+        for (Money amount : amounts) {
+            total = total.add(amount);
+        }
+        return total;
+    }
+}
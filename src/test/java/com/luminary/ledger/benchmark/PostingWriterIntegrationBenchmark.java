@@ -0,0 +1,138 @@
+package com.luminary.ledger.benchmark;
+
+import com.luminary.ledger.domain.enums.EntryType;
+import com.luminary.ledger.domain.model.Transaction;
+import com.luminary.ledger.domain.model.TransactionEntry;
+import com.luminary.ledger.domain.vo.Money;
+import com.luminary.ledger.persistence.mapper.TransactionEntityMapper;
+import com.luminary.ledger.persistence.repository.AccountRepository;
+import com.luminary.ledger.persistence.repository.TransactionRepository;
+import com.luminary.ledger.persistence.writer.JdbcTransactionWriter;
+import com.luminary.ledger.persistence.writer.JpaTransactionWriter;
+import com.luminary.ledger.persistence.writer.TransactionWriter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostingWriterIntegrationBenchmark {
+
+    private static final int BATCH = Integer.getInteger("benchmark.batch", 1);
+    private static final int ENTRIES = Integer.getInteger("benchmark.entries", 2);
+    private static final int WARMUP = Integer.getInteger("benchmark.warmup", 500);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 5_000);
+
+    @Container
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionEntityMapper transactionMapper;
+
+    private Long debitAccountId;
+    private Long creditAccountId;
+
+    @BeforeAll
+    void seed() {
+        debitAccountId = jdbcTemplate.queryForObject(
+                "INSERT INTO accounts (name, type) VALUES ('Writer Cash', 'ASSET') RETURNING id", Long.class);
+        creditAccountId = jdbcTemplate.queryForObject(
+                "INSERT INTO accounts (name, type) VALUES ('Writer Sales', 'REVENUE') RETURNING id", Long.class);
+    }
+
+    @Test
+    void jdbcWriterVersusJpaWriter() {
+        Result jpa = measure("JPA (persist + map back)",
+                new JpaTransactionWriter(transactionRepository, accountRepository, transactionMapper));
+        Result jdbc = measure("JDBC (batched INSERTs)", new JdbcTransactionWriter(jdbcTemplate));
+
+        System.out.printf("%nWriting %d transaction(s) of %d entries per call (%d iterations)%n",
+                BATCH, ENTRIES, ITERATIONS);
+        System.out.println(jpa);
+        System.out.println(jdbc);
+
+        Integer written = jdbcTemplate.queryForObject("SELECT count(*) FROM transaction_entries", Integer.class);
+        assertEquals(2 * (WARMUP + ITERATIONS) * BATCH * ENTRIES, written);
+    }
+
+    private Result measure(String name, TransactionWriter writer) {
+        for (int i = 0; i < WARMUP; i++) {
+            transactionTemplate.execute(status -> writer.insertAll(batch()));
+        }
+
+        long[] latencies = new long[ITERATIONS];
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            List<Transaction> transactions = batch();
+            long start = System.nanoTime();
+            transactionTemplate.execute(status -> writer.insertAll(transactions));
+            latencies[i] = System.nanoTime() - start;
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        Arrays.sort(latencies);
+        return new Result(name, latencies[ITERATIONS / 2], latencies[(int) (ITERATIONS * 0.99)],
+                ITERATIONS * BATCH / seconds);
+    }
+
+    private List<Transaction> batch() {
+        List<Transaction> transactions = new ArrayList<>(BATCH);
+        for (int t = 0; t < BATCH; t++) {
+            List<TransactionEntry> entries = new ArrayList<>(ENTRIES);
+            for (int e = 0; e < ENTRIES; e++) {
+                entries.add(e % 2 == 0
+                        ? TransactionEntry.create(debitAccountId, EntryType.DEBIT, Money.of("1.00"))
+                        : TransactionEntry.create(creditAccountId, EntryType.CREDIT, Money.of("1.00")));
+            }
+            transactions.add(Transaction.create("Writer benchmark", LocalDateTime.now(), entries));
+        }
+        return transactions;
+    }
+
+    private record Result(String name, long p50Nanos, long p99Nanos, double transactionsPerSecond) {
+
+        @Override
+        public String toString() {
+            return "%-26s p50=%.3f ms p99=%.3f ms %,10.0f transactions/s".formatted(
+                    name, p50Nanos / 1_000_000.0, p99Nanos / 1_000_000.0, transactionsPerSecond);
+        }
+    }
+}
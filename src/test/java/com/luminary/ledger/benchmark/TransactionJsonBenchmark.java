@@ -0,0 +1,50 @@
+package com.luminary.ledger.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.luminary.ledger.api.dto.CreateTransactionRequest;
+import com.luminary.ledger.api.dto.TransactionResponse;
+import com.luminary.ledger.api.mapper.TransactionDtoMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionJsonBenchmark {
+
+    @Param({"2", "10", "100"})
+    private int entries;
+
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+    private byte[] requestJson;
+    private TransactionResponse response;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Same defaults Spring MVC applies to the controllers.
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        requestReader = objectMapper.readerFor(CreateTransactionRequest.class);
+        responseWriter = objectMapper.writerFor(TransactionResponse.class);
+        requestJson = objectMapper.writeValueAsBytes(LedgerFixtures.request(entries));
+        response = new TransactionDtoMapper().toResponse(LedgerFixtures.transaction(entries));
+    }
+
+    @Benchmark
+    public CreateTransactionRequest readRequest() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,65 @@
+package com.luminary.ledger.benchmark;
+
+import com.luminary.ledger.api.dto.CreateTransactionRequest;
+import com.luminary.ledger.api.dto.TransactionResponse;
+import com.luminary.ledger.api.mapper.TransactionDtoMapper;
+import com.luminary.ledger.domain.model.Transaction;
+import com.luminary.ledger.persistence.entity.AccountEntity;
+import com.luminary.ledger.persistence.entity.TransactionEntity;
+import com.luminary.ledger.persistence.mapper.TransactionEntityMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionMappingBenchmark {
+
+    @Param({"2", "10", "100"})
+    private int entries;
+
+    private final TransactionEntityMapper entityMapper = new TransactionEntityMapper();
+    private final TransactionDtoMapper dtoMapper = new TransactionDtoMapper();
+
+    private Transaction transaction;
+    private Map<Long, AccountEntity> accounts;
+    private TransactionEntity entity;
+    private CreateTransactionRequest request;
+
+    @Setup
+    public void setUp() {
+        transaction = LedgerFixtures.transaction(entries);
+        accounts = LedgerFixtures.accounts(entries);
+        entity = entityMapper.toEntity(transaction, accounts);
+        entity.setId(transaction.getId());
+        for (int i = 0; i < entity.getEntries().size(); i++) {
+            entity.getEntries().get(i).setId((long) i + 1);
+        }
+        request = LedgerFixtures.request(entries);
+    }
+
+    @Benchmark
+    public TransactionEntity domainToEntity() {
+        return entityMapper.toEntity(transaction, accounts);
+    }
+
+    @Benchmark
+    public Transaction entityToDomain() {
+        return entityMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Transaction requestToDomain() {
+        return dtoMapper.toDomain(request);
+    }
+
+    @Benchmark
+    public TransactionResponse domainToResponse() {
+        return dtoMapper.toResponse(transaction);
+    }
+}
@@ -0,0 +1,32 @@
+package com.luminary.ledger.benchmark;
+
+import com.luminary.ledger.domain.model.Transaction;
+import com.luminary.ledger.domain.model.TransactionEntry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionValidationBenchmark {
+
+    @Param({"2", "10", "100", "500"})
+    private int entries;
+
+    private List<TransactionEntry> transactionEntries;
+
+    @Setup
+    public void setUp() {
+        transactionEntries = LedgerFixtures.entries(entries);
+    }
+
+    @Benchmark
+    public Transaction create() {
+        return Transaction.create("Benchmark posting", LedgerFixtures.DATE, transactionEntries);
+    }
+}
@@ -0,0 +1,58 @@
+package com.luminary.ledger.domain.model;
+
+import com.luminary.ledger.domain.enums.EntryType;
+import com.luminary.ledger.domain.exception.InsufficientEntriesException;
+import com.luminary.ledger.domain.exception.UnbalancedTransactionException;
+import com.luminary.ledger.domain.vo.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2025, 1, 15, 10, 0);
+
+    @Test
+    void create_multiLeg_carriesTotals() {
+        Transaction transaction = Transaction.create("Payroll", DATE, List.of(
+                TransactionEntry.create(1L, EntryType.DEBIT, Money.of("700")),
+                TransactionEntry.create(2L, EntryType.DEBIT, Money.of("300.5")),
+                TransactionEntry.create(3L, EntryType.CREDIT, Money.of("1000")),
+                TransactionEntry.create(4L, EntryType.CREDIT, Money.of("0.5"))
+        ));
+
+        assertEquals(Money.of("1000.5"), transaction.getTotalDebits());
+        assertEquals(Money.of("1000.5"), transaction.getTotalCredits());
+    }
+
+    @Test
+    void create_unbalanced_throwsException() {
+        List<TransactionEntry> entries = List.of(
+                TransactionEntry.create(1L, EntryType.DEBIT, Money.of("100")),
+                TransactionEntry.create(2L, EntryType.CREDIT, Money.of("99.9999"))
+        );
+
+        assertThrows(UnbalancedTransactionException.class, () -> Transaction.create("Sale", DATE, entries));
+    }
+
+    @Test
+    void create_singleEntry_throwsException() {
+        List<TransactionEntry> entries = List.of(TransactionEntry.create(1L, EntryType.DEBIT, Money.of("1")));
+
+        assertThrows(InsufficientEntriesException.class, () -> Transaction.create("Sale", DATE, entries));
+    }
+
+    @Test
+    void constructor_computesTotalsForLoadedTransactions() {
+        Transaction transaction = new Transaction(10L, "Loaded", DATE, List.of(
+                new TransactionEntry(1L, 1L, EntryType.DEBIT, Money.of("25"), DATE),
+                new TransactionEntry(2L, 2L, EntryType.CREDIT, Money.of("25"), DATE)
+        ), DATE);
+
+        assertEquals(Money.of("25"), transaction.getTotalDebits());
+        assertEquals(Money.of("25"), transaction.getTotalCredits());
+    }
+}
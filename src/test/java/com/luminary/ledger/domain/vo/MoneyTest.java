@@ -0,0 +1,50 @@
+package com.luminary.ledger.domain.vo;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void of_roundsHalfUpToFourDecimals() {
+        Money money = Money.of("10.12345");
+
+        assertEquals(101235L, money.units());
+        assertEquals(new BigDecimal("10.1235"), money.value());
+        assertEquals("10.1235", money.toString());
+    }
+
+    @Test
+    void of_negative_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> Money.of("-0.0001"));
+    }
+
+    @Test
+    void of_beyondLongRange_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> Money.of("999999999999999.9999"));
+    }
+
+    @Test
+    void addAndSubtract_useFixedPointUnits() {
+        Money sum = Money.of("0.1").add(Money.of("0.2"));
+
+        assertEquals(Money.of("0.3"), sum);
+        assertEquals(Money.of("0.1"), sum.subtract(Money.of("0.2")));
+    }
+
+    @Test
+    void add_overflow_throwsException() {
+        Money max = Money.ofUnits(Long.MAX_VALUE);
+
+        assertThrows(IllegalArgumentException.class, () -> max.add(Money.ofUnits(1)));
+    }
+
+    @Test
+    void equals_ignoresInputScale() {
+        assertEquals(Money.of("5"), Money.of(new BigDecimal("5.000000")));
+        assertEquals(Money.of("5").hashCode(), Money.of("5.00").hashCode());
+    }
+}
@@ -0,0 +1,51 @@
+package com.luminary.ledger.loadtest;
+
+import java.util.Arrays;
+
+final class LatencySamples {
+
+    private long[] nanos = new long[1024];
+    private int size;
+    private long errors;
+
+    void record(long latencyNanos) {
+        if (size == nanos.length) {
+            nanos = Arrays.copyOf(nanos, size * 2);
+        }
+        nanos[size++] = latencyNanos;
+    }
+
+    void recordError() {
+        errors++;
+    }
+
+    void addAll(LatencySamples other) {
+        if (size + other.size > nanos.length) {
+            nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, size + other.size));
+        }
+        System.arraycopy(other.nanos, 0, nanos, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    int count() {
+        return size;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    // Callers sort once and read several percentiles.
+    void sort() {
+        Arrays.sort(nanos, 0, size);
+    }
+
+    double percentileMillis(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return nanos[Math.max(0, Math.min(index, size - 1))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,257 @@
+package com.luminary.ledger.loadtest;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LedgerLoadTest {
+
+    private static final int ACCOUNTS = Integer.getInteger("loadtest.accounts", 1_000);
+    private static final long ENTRIES = Long.getLong("loadtest.entries", 1_000_000L);
+    private static final int THREADS = Integer.getInteger("loadtest.threads", 32);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10L));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60L));
+    private static final String MIX = System.getProperty("loadtest.mix", "post=20,balance=70,history=10");
+    // Both thread modes run with the same connection pool so the pool is not a hidden difference between them.
+    private static final int POOL_SIZE = Integer.getInteger("loadtest.pool-size", 40);
+
+    @Container
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine")
+            .withCommand("postgres", "-c", "max_connections=200");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> POOL_SIZE);
+        registry.add("spring.datasource.hikari.minimum-idle", () -> POOL_SIZE);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    private long firstAccountId;
+
+    enum Operation {
+        POST("POST /api/transactions"),
+        BALANCE("GET /api/accounts/{id}"),
+        HISTORY("GET /api/accounts/{id}/transactions");
+
+        private final String endpoint;
+
+        Operation(String endpoint) {
+            this.endpoint = endpoint;
+        }
+    }
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO accounts (name, type) " +
+                "SELECT 'Load ' || g, 'ASSET' FROM generate_series(1, ?) g", ACCOUNTS);
+        firstAccountId = jdbcTemplate.queryForObject("SELECT min(id) FROM accounts", Long.class);
+
+        jdbcTemplate.update("INSERT INTO transactions (description, date) " +
+                "SELECT 'seed ' || g, now() - (g || ' minutes')::interval FROM generate_series(1, ?) g", ENTRIES / 2);
+        jdbcTemplate.update("INSERT INTO transaction_entries " +
+                "(transaction_id, account_id, entry_type, amount, transaction_date) " +
+                "SELECT t.id, ? + (t.id * 7 + e * 13) % ?, " +
+                "CASE WHEN e = 0 THEN 'DEBIT' ELSE 'CREDIT' END, 10.0000, t.date " +
+                "FROM transactions t CROSS JOIN generate_series(0, 1) e", firstAccountId, ACCOUNTS);
+        jdbcTemplate.update("INSERT INTO account_balance_shards " +
+                "(account_id, debit_total, credit_total, version, updated_at) " +
+                "SELECT a.id, " +
+                "COALESCE(SUM(CASE WHEN e.entry_type = 'DEBIT' THEN e.amount END), 0), " +
+                "COALESCE(SUM(CASE WHEN e.entry_type = 'CREDIT' THEN e.amount END), 0), 0, now() " +
+                "FROM accounts a LEFT JOIN transaction_entries e ON e.account_id = a.id GROUP BY a.id " +
+                "ON CONFLICT (account_id, shard) DO UPDATE SET " +
+                "debit_total = EXCLUDED.debit_total, credit_total = EXCLUDED.credit_total");
+        jdbcTemplate.execute("VACUUM ANALYZE");
+    }
+
+    @Test
+    void postingAndReadMix() throws Exception {
+        Map<Operation, Integer> weights = parseMix(MIX);
+
+        run(weights, WARMUP);
+        Map<Operation, LatencySamples> results = run(weights, DURATION);
+
+        Path reportFile = Path.of("target", "load-test-report-" + mode() + ".csv");
+        List<String> report = new ArrayList<>();
+        report.add("endpoint,pool_size,requests,errors,tps,p50_ms,p99_ms,p999_ms,max_ms");
+        System.out.printf("%nLoad test (%s): %,d accounts, %,d seeded entries, %d threads, %d pooled connections, " +
+                        "%ds, mix %s%n",
+                mode(), ACCOUNTS, ENTRIES, THREADS, POOL_SIZE, DURATION.toSeconds(), MIX);
+        System.out.printf("%-40s %10s %7s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "tps", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        long errors = 0;
+        for (Map.Entry<Operation, LatencySamples> entry : results.entrySet()) {
+            LatencySamples samples = entry.getValue();
+            samples.sort();
+            double tps = samples.count() / (double) DURATION.toSeconds();
+            System.out.printf("%-40s %,10d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey().endpoint, samples.count(), samples.errors(), tps,
+                    samples.percentileMillis(50), samples.percentileMillis(99),
+                    samples.percentileMillis(99.9), samples.percentileMillis(100));
+            report.add("%s,%d,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f".formatted(
+                    entry.getKey().endpoint, POOL_SIZE, samples.count(), samples.errors(), tps,
+                    samples.percentileMillis(50), samples.percentileMillis(99),
+                    samples.percentileMillis(99.9), samples.percentileMillis(100)));
+            errors += samples.errors();
+        }
+        Files.createDirectories(reportFile.getParent());
+        Files.write(reportFile, report);
+        System.out.println("Report written to " + reportFile.toAbsolutePath());
+
+        assertEquals(0, errors, "requests failed during the load test");
+    }
+
+    protected String mode() {
+        return "platform-threads";
+    }
+
+    private Map<Operation, LatencySamples> run(Map<Operation, Integer> weights, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Map<Operation, LatencySamples>>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(workers.submit(() -> drive(weights, deadline)));
+            }
+            Map<Operation, LatencySamples> merged = new EnumMap<>(Operation.class);
+            for (Future<Map<Operation, LatencySamples>> future : futures) {
+                future.get().forEach((operation, samples) ->
+                        merged.computeIfAbsent(operation, o -> new LatencySamples()).addAll(samples));
+            }
+            return merged;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private Map<Operation, LatencySamples> drive(Map<Operation, Integer> weights, long deadline) {
+        Map<Operation, LatencySamples> samples = new EnumMap<>(Operation.class);
+        int totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+        while (System.nanoTime() < deadline) {
+            Operation operation = pick(weights, totalWeight);
+            HttpRequest request = request(operation);
+            LatencySamples operationSamples = samples.computeIfAbsent(operation, o -> new LatencySamples());
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                long latency = System.nanoTime() - start;
+                if (response.statusCode() >= 300) {
+                    operationSamples.recordError();
+                } else {
+                    operationSamples.record(latency);
+                }
+            } catch (IOException e) {
+                operationSamples.recordError();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return samples;
+    }
+
+    private HttpRequest request(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long accountId = firstAccountId + random.nextInt(ACCOUNTS);
+        return switch (operation) {
+            case POST -> {
+                long counterpartyId = firstAccountId + (accountId - firstAccountId + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+                String amount = "%d.%02d".formatted(random.nextInt(1, 1_000), random.nextInt(100));
+                String body = """
+                        {
+                          "description": "Load test posting",
+                          "date": "%s",
+                          "entries": [
+                            {"accountId": %d, "type": "DEBIT", "amount": %s},
+                            {"accountId": %d, "type": "CREDIT", "amount": %s}
+                          ]
+                        }
+                        """.formatted(LocalDateTime.now().withNano(0), accountId, amount, counterpartyId, amount);
+                yield HttpRequest.newBuilder(uri("/api/transactions"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+            }
+            case BALANCE -> HttpRequest.newBuilder(uri("/api/accounts/" + accountId)).GET().build();
+            case HISTORY -> HttpRequest.newBuilder(uri("/api/accounts/" + accountId + "/transactions?cursor=&size=20"))
+                    .GET()
+                    .build();
+        };
+    }
+
+    private Operation pick(Map<Operation, Integer> weights, int totalWeight) {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty load mix");
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split("=");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Invalid load mix: " + mix);
+        }
+        return weights;
+    }
+}
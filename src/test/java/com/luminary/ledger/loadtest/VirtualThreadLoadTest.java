@@ -0,0 +1,12 @@
+package com.luminary.ledger.loadtest;
+
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("virtual-threads")
+class VirtualThreadLoadTest extends LedgerLoadTest {
+
+    @Override
+    protected String mode() {
+        return "virtual-threads";
+    }
+}
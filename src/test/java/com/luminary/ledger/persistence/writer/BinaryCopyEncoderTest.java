@@ -0,0 +1,66 @@
+package com.luminary.ledger.persistence.writer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryCopyEncoderTest {
+
+    @Test
+    void encoder_writesHeaderRowsAndTrailer() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryCopyEncoder encoder = new BinaryCopyEncoder(bytes);
+        encoder.startRow(3);
+        encoder.writeLong(42L);
+        encoder.writeText("Café");
+        encoder.writeTimestamp(LocalDateTime.of(2000, 1, 2, 0, 0, 0, 1_000));
+        encoder.finish();
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertArrayEquals("PGCOPY\n\377\r\n\0".getBytes(StandardCharsets.ISO_8859_1), in.readNBytes(11));
+        assertEquals(0, in.readInt());
+        assertEquals(0, in.readInt());
+        assertEquals(3, in.readShort());
+        assertEquals(8, in.readInt());
+        assertEquals(42L, in.readLong());
+        assertEquals(5, in.readInt());
+        assertEquals("Café", new String(in.readNBytes(5), StandardCharsets.UTF_8));
+        assertEquals(8, in.readInt());
+        assertEquals(86_400_000_001L, in.readLong());
+        assertEquals(-1, in.readShort());
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    void writeNumeric_usesBase10000Digits() throws IOException {
+        assertArrayEquals(new int[]{2, 0, 0, 4, 125, 5000}, numeric("125.5000"));
+        assertArrayEquals(new int[]{3, 1, 0, 2, 1, 2345, 6700}, numeric("12345.67"));
+        assertArrayEquals(new int[]{1, -1, 0, 4, 50}, numeric("0.0050"));
+        assertArrayEquals(new int[]{1, 1, 0x4000, 4, 1}, numeric("-10000.0000"));
+        assertArrayEquals(new int[]{1, 1, 0, 0, 12}, numeric("1.2E+5"));
+        assertArrayEquals(new int[]{0, 0, 0, 4}, numeric("0.0000"));
+    }
+
+    private static int[] numeric(String value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new BinaryCopyEncoder(bytes).writeNumeric(new BigDecimal(value));
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        in.skipNBytes(19);
+        int length = in.readInt();
+        int[] fields = new int[length / Short.BYTES];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = in.readShort();
+        }
+        assertEquals(-1, in.read());
+        return fields;
+    }
+}
@@ -0,0 +1,114 @@
+package com.luminary.ledger.persistence.writer;
+
+import com.luminary.ledger.domain.enums.EntryType;
+import com.luminary.ledger.domain.model.Transaction;
+import com.luminary.ledger.domain.model.TransactionEntry;
+import com.luminary.ledger.domain.vo.Money;
+import com.luminary.ledger.persistence.tracking.QueryStats;
+import com.luminary.ledger.persistence.tracking.QueryTracker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcTransactionWriterTest {
+
+    private static final String NEXT_TRANSACTION_ID = "SELECT nextval('transactions_id_seq')";
+    private static final String NEXT_ENTRY_ID = "SELECT nextval('transaction_entries_id_seq')";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void insertAll_batchesRowsAndReturnsDomainWithIds() {
+        when(jdbcTemplate.queryForObject(NEXT_TRANSACTION_ID, Long.class)).thenReturn(101L);
+        when(jdbcTemplate.queryForObject(NEXT_ENTRY_ID, Long.class)).thenReturn(201L);
+        JdbcTransactionWriter writer = new JdbcTransactionWriter(jdbcTemplate);
+        LocalDateTime date = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+        List<Transaction> saved = writer.insertAll(List.of(
+                sale("First", date, "10.00"),
+                sale("Second", date, "20.00")));
+
+        assertEquals(List.of(52L, 53L), saved.stream().map(Transaction::getId).toList());
+        assertEquals(List.of(152L, 153L), saved.get(0).getEntries().stream().map(TransactionEntry::getId).toList());
+        assertEquals(List.of(154L, 155L), saved.get(1).getEntries().stream().map(TransactionEntry::getId).toList());
+        assertEquals(Money.of("20.00"), saved.get(1).getTotalDebits());
+
+        ArgumentCaptor<List<Object[]>> transactionRows = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Object[]>> entryRows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO transactions "), transactionRows.capture());
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO transaction_entries "), entryRows.capture());
+        assertEquals(2, transactionRows.getValue().size());
+        assertArrayEquals(new Object[]{53L, 2L, "CREDIT", new BigDecimal("20.0000"), Timestamp.valueOf(date)},
+                slice(entryRows.getValue().get(3)));
+        verify(jdbcTemplate, times(1)).queryForObject(eq(NEXT_TRANSACTION_ID), eq(Long.class));
+    }
+
+    @Test
+    void insertAll_countsJdbcStatementsTowardQueryBudget() {
+        when(jdbcTemplate.queryForObject(NEXT_TRANSACTION_ID, Long.class)).thenReturn(101L);
+        when(jdbcTemplate.queryForObject(NEXT_ENTRY_ID, Long.class)).thenReturn(201L);
+        JdbcTransactionWriter writer = new JdbcTransactionWriter(jdbcTemplate);
+
+        QueryTracker.start();
+        writer.insertAll(List.of(sale("Tracked", LocalDateTime.of(2025, 3, 1, 9, 0), "10.00")));
+        QueryStats stats = QueryTracker.stop();
+
+        // Two id reservations, then one batch per table.
+        assertEquals(4, stats.statements());
+        assertEquals(NEXT_TRANSACTION_ID, stats.sql().get(0));
+        assertTrue(stats.sql().get(3).startsWith("INSERT INTO transaction_entries "));
+    }
+
+    @Test
+    void sequenceIdAllocator_handsOutPooledBlocks() {
+        when(jdbcTemplate.queryForObject(NEXT_TRANSACTION_ID, Long.class)).thenReturn(1L, 4L, 7L);
+        SequenceIdAllocator allocator = new SequenceIdAllocator(jdbcTemplate, "transactions_id_seq", 3);
+
+        List<Long> ids = List.of(allocator.next(), allocator.next(), allocator.next(), allocator.next(),
+                allocator.next());
+
+        // The first value of a fresh sequence reserves only itself; later values reserve (v - 3, v].
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), ids);
+        verify(jdbcTemplate, times(3)).queryForObject(NEXT_TRANSACTION_ID, Long.class);
+    }
+
+    @Test
+    void sequenceIdAllocator_bulkRequestReservesMissingBlocksInOneQuery() {
+        when(jdbcTemplate.queryForObject(NEXT_TRANSACTION_ID, Long.class)).thenReturn(4L);
+        when(jdbcTemplate.queryForList("SELECT nextval('transactions_id_seq') FROM generate_series(1, ?)",
+                Long.class, 3)).thenReturn(List.of(7L, 10L, 13L));
+        SequenceIdAllocator allocator = new SequenceIdAllocator(jdbcTemplate, "transactions_id_seq", 3);
+        allocator.next();
+
+        long[] ids = allocator.next(9);
+
+        assertArrayEquals(new long[]{3, 4, 5, 6, 7, 8, 9, 10, 11}, ids);
+        assertEquals(12L, allocator.next());
+    }
+
+    private static Object[] slice(Object[] entryRow) {
+        return new Object[]{entryRow[1], entryRow[2], entryRow[3], entryRow[4], entryRow[5]};
+    }
+
+    private static Transaction sale(String description, LocalDateTime date, String amount) {
+        return Transaction.create(description, date, List.of(
+                TransactionEntry.create(1L, EntryType.DEBIT, Money.of(amount)),
+                TransactionEntry.create(2L, EntryType.CREDIT, Money.of(amount))));
+    }
+}
@@ -7,6 +7,7 @@ import com.luminary.ledger.domain.model.Account;
 import com.luminary.ledger.domain.vo.AccountName;
 import com.luminary.ledger.persistence.entity.AccountEntity;
 import com.luminary.ledger.persistence.mapper.AccountEntityMapper;
+import com.luminary.ledger.persistence.repository.AccountBalanceRepository;
 import com.luminary.ledger.persistence.repository.AccountRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +34,12 @@ class AccountServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private AccountBalanceRepository balanceRepository;
+
+    @Mock
+    private AccountCache accountCache;
+
     private AccountEntityMapper accountMapper;
     private AccountService accountService;
 
@@ -40,7 +48,7 @@ class AccountServiceTest {
     @BeforeEach
     void setUp() {
         accountMapper = new AccountEntityMapper();
-        accountService = new AccountService(accountRepository, accountMapper);
+        accountService = new AccountService(accountRepository, balanceRepository, accountMapper, accountCache);
 
         LocalDateTime now = LocalDateTime.now();
         accountEntity = new AccountEntity();
@@ -64,6 +72,33 @@ class AccountServiceTest {
 
         verify(accountRepository).existsByName("Cash");
         verify(accountRepository).save(any(AccountEntity.class));
+        verify(balanceRepository).initialize(1L, 1);
+    }
+
+    @Test
+    void createAccount_withBalanceShards_persistsShardCount() {
+        when(accountRepository.existsByName("Fees")).thenReturn(false);
+        when(accountRepository.save(any(AccountEntity.class))).thenAnswer(invocation -> {
+            AccountEntity entity = invocation.getArgument(0);
+            entity.setId(2L);
+            return entity;
+        });
+
+        Account result = accountService.createAccount(AccountName.of("Fees"), AccountType.REVENUE, 8);
+
+        assertEquals(8, result.getBalanceShards());
+        assertTrue(result.isBalanceSharded());
+        verify(balanceRepository).initialize(2L, 8);
+    }
+
+    @Test
+    void createAccount_tooManyBalanceShards_throwsException() {
+        when(accountRepository.existsByName("Fees")).thenReturn(false);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> accountService.createAccount(AccountName.of("Fees"), AccountType.REVENUE, 65));
+
+        verify(accountRepository, never()).save(any());
     }
 
     @Test
@@ -74,9 +109,40 @@ class AccountServiceTest {
                 () -> accountService.createAccount(AccountName.of("Cash"), AccountType.ASSET));
 
         verify(accountRepository, never()).save(any());
+        verify(balanceRepository, never()).initialize(any(), anyInt());
     }
 
 
+    @Test
+    void increaseBalanceShards_addsShardRowsAndEvictsCachedAccount() {
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(accountEntity));
+        when(accountRepository.save(accountEntity)).thenReturn(accountEntity);
+
+        Account result = accountService.increaseBalanceShards(1L, 8);
+
+        assertEquals(8, result.getBalanceShards());
+        verify(balanceRepository).initialize(1L, 8);
+        verify(accountCache).evictAfterCommit(1L);
+    }
+
+    @Test
+    void increaseBalanceShards_fewerShards_throwsException() {
+        accountEntity.setBalanceShards(8);
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(accountEntity));
+
+        assertThrows(IllegalArgumentException.class, () -> accountService.increaseBalanceShards(1L, 4));
+
+        verifyNoInteractions(balanceRepository, accountCache);
+        verify(accountRepository, never()).save(any());
+    }
+
+    @Test
+    void increaseBalanceShards_unknownAccount_throwsException() {
+        when(accountRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(AccountNotFoundException.class, () -> accountService.increaseBalanceShards(99L, 4));
+    }
+
     @Test
     void getAccount_found() {
         when(accountRepository.findById(1L)).thenReturn(Optional.of(accountEntity));
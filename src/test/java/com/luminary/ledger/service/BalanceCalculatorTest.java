@@ -1,8 +1,18 @@
 package com.luminary.ledger.service;
 
 import com.luminary.ledger.domain.enums.AccountType;
-import com.luminary.ledger.domain.enums.EntryType;
+import com.luminary.ledger.domain.model.Account;
+import com.luminary.ledger.domain.vo.AccountName;
+import com.luminary.ledger.domain.vo.BalanceTotals;
+import com.luminary.ledger.domain.vo.BalanceVersion;
+import com.luminary.ledger.persistence.entity.AccountBalanceEntity;
+import com.luminary.ledger.persistence.entity.AccountBalanceSnapshotEntity;
+import com.luminary.ledger.persistence.repository.AccountBalanceRepository;
+import com.luminary.ledger.persistence.repository.AccountBalanceSnapshotRepository;
 import com.luminary.ledger.persistence.repository.TransactionEntryRepository;
+import com.luminary.ledger.persistence.repository.TransactionEntryRepository.EntryTotals;
+import com.luminary.ledger.service.BalanceCache.CachedBalance;
+import com.luminary.ledger.service.BalanceCalculator.VersionedBalance;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,13 +20,26 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class BalanceCalculatorTest {
 
+    @Mock
+    private AccountBalanceRepository balanceRepository;
+
+    @Mock
+    private AccountBalanceSnapshotRepository snapshotRepository;
+
     @Mock
     private TransactionEntryRepository entryRepository;
 
@@ -24,7 +47,8 @@ class BalanceCalculatorTest {
 
     @BeforeEach
     void setUp() {
-        balanceCalculator = new BalanceCalculator(entryRepository);
+        balanceCalculator = new BalanceCalculator(balanceRepository, snapshotRepository, entryRepository,
+                new NoOpBalanceCache());
     }
 
     @Test
@@ -87,7 +111,77 @@ class BalanceCalculatorTest {
 
         BigDecimal balance = balanceCalculator.calculateBalance(5L, AccountType.ASSET);
 
-        assertEquals(BigDecimal.ZERO, balance);
+        assertEquals(0, BigDecimal.ZERO.compareTo(balance));
+    }
+
+    @Test
+    void noBalanceRow_readsZeroWithoutSummingJournal() {
+        when(balanceRepository.findById(7L)).thenReturn(Optional.empty());
+
+        BigDecimal balance = balanceCalculator.calculateBalance(7L, AccountType.REVENUE);
+
+        assertEquals(0, BigDecimal.ZERO.compareTo(balance));
+        verifyNoInteractions(entryRepository);
+    }
+
+    @Test
+    void balanceRow_skipsJournalAggregate() {
+        stubEntries(8L, new BigDecimal("10.0000"), new BigDecimal("0.0000"));
+
+        balanceCalculator.calculateBalance(8L, AccountType.ASSET);
+
+        verifyNoInteractions(entryRepository);
+    }
+
+    @Test
+    void calculateVersionedBalance_returnsBalanceRowVersion() {
+        AccountBalanceEntity row = balance(9L, new BigDecimal("40.0000"), new BigDecimal("15.0000"));
+        row.setVersion(12L);
+        when(balanceRepository.findById(9L)).thenReturn(Optional.of(row));
+
+        VersionedBalance balance = balanceCalculator.calculateVersionedBalance(9L, AccountType.ASSET);
+
+        assertEquals(new BigDecimal("25.0000"), balance.balance());
+        assertEquals(BalanceVersion.of(9L, 12L), balance.version());
+        assertEquals("\"9.12\"", balance.version().toETag());
+    }
+
+    @Test
+    void calculateVersionedBalance_servedFromCache() {
+        BalanceCache cache = mock(BalanceCache.class);
+        balanceCalculator = new BalanceCalculator(balanceRepository, snapshotRepository, entryRepository, cache);
+        when(cache.getVersioned(eq(9L), any())).thenReturn(new CachedBalance(
+                BalanceTotals.of(new BigDecimal("40.0000"), new BigDecimal("15.0000")), 12L));
+
+        VersionedBalance balance = balanceCalculator.calculateVersionedBalance(9L, AccountType.ASSET);
+
+        assertEquals(BalanceVersion.of(9L, 12L), balance.version());
+        verifyNoInteractions(balanceRepository);
+    }
+
+    @Test
+    void calculateCurrentVersionedBalance_readsVersionFromBalanceRowNotCache() {
+        BalanceCache staleCache = mock(BalanceCache.class);
+        balanceCalculator = new BalanceCalculator(balanceRepository, snapshotRepository, entryRepository, staleCache);
+        AccountBalanceEntity row = balance(9L, new BigDecimal("40.0000"), new BigDecimal("15.0000"));
+        row.setVersion(13L);
+        when(balanceRepository.findById(9L)).thenReturn(Optional.of(row));
+
+        VersionedBalance balance = balanceCalculator.calculateCurrentVersionedBalance(9L, AccountType.ASSET);
+
+        assertEquals(BalanceVersion.of(9L, 13L), balance.version());
+        verifyNoInteractions(staleCache);
+    }
+
+    @Test
+    void calculateVersionedBalance_noBalanceRow_returnsZeroAtVersionZero() {
+        when(balanceRepository.findById(9L)).thenReturn(Optional.empty());
+
+        VersionedBalance balance = balanceCalculator.calculateVersionedBalance(9L, AccountType.ASSET);
+
+        assertEquals(0, BigDecimal.ZERO.compareTo(balance.balance()));
+        assertEquals(BalanceVersion.of(9L, 0L), balance.version());
+        verifyNoInteractions(entryRepository);
     }
 
     @Test
@@ -99,8 +193,96 @@ class BalanceCalculatorTest {
         assertEquals(new BigDecimal("0.0000"), balance);
     }
 
+    @Test
+    void calculateBalanceAsOf_snapshotPlusDeltaSinceSnapshot() {
+        LocalDateTime snapshotAt = LocalDateTime.of(2025, 3, 1, 0, 0);
+        LocalDateTime asOf = LocalDateTime.of(2025, 3, 1, 17, 45);
+        when(snapshotRepository.findFirstByAccountIdAndAsOfLessThanEqualOrderByAsOfDesc(1L, asOf))
+                .thenReturn(Optional.of(snapshot(1L, snapshotAt, new BigDecimal("1000.0000"), new BigDecimal("300.0000"))));
+        EntryTotals delta = totals(new BigDecimal("50.0000"), new BigDecimal("20.0000"));
+        when(entryRepository.sumTotalsByAccountIdBetween(1L, snapshotAt, asOf)).thenReturn(delta);
+
+        BigDecimal balance = balanceCalculator.calculateBalanceAsOf(1L, AccountType.ASSET, asOf);
+
+        assertEquals(new BigDecimal("730.0000"), balance);
+        verify(entryRepository, never()).sumTotalsByAccountIdUpTo(any(), any());
+        verifyNoInteractions(balanceRepository);
+    }
+
+    @Test
+    void calculateBalanceAsOf_noSnapshot_sumsEntriesUpToDate() {
+        LocalDateTime asOf = LocalDateTime.of(2025, 1, 31, 23, 59);
+        when(snapshotRepository.findFirstByAccountIdAndAsOfLessThanEqualOrderByAsOfDesc(4L, asOf))
+                .thenReturn(Optional.empty());
+        EntryTotals totals = totals(new BigDecimal("10.0000"), new BigDecimal("90.0000"));
+        when(entryRepository.sumTotalsByAccountIdUpTo(4L, asOf)).thenReturn(totals);
+
+        BigDecimal balance = balanceCalculator.calculateBalanceAsOf(4L, AccountType.REVENUE, asOf);
+
+        assertEquals(new BigDecimal("80.0000"), balance);
+    }
+
+    @Test
+    void calculateBalances_singleLookupForAllAccounts() {
+        Account cash = account(1L, "Cash", AccountType.ASSET);
+        Account sales = account(2L, "Sales", AccountType.REVENUE);
+        Account rent = account(3L, "Rent", AccountType.EXPENSE);
+        when(balanceRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                balance(1L, new BigDecimal("1000.0000"), new BigDecimal("300.0000")),
+                balance(2L, new BigDecimal("50.0000"), new BigDecimal("1000.0000"))
+        ));
+
+        Map<Long, BigDecimal> balances = balanceCalculator.calculateBalances(List.of(cash, sales, rent));
+
+        assertEquals(new BigDecimal("700.0000"), balances.get(1L));
+        assertEquals(new BigDecimal("950.0000"), balances.get(2L));
+        assertEquals(new BigDecimal("0.0000"), balances.get(3L));
+        verify(balanceRepository, times(1)).findAllById(any());
+        verify(balanceRepository, never()).findById(any());
+    }
+
+    @Test
+    void calculateBalances_emptyInput_skipsQuery() {
+        Map<Long, BigDecimal> balances = balanceCalculator.calculateBalances(List.of());
+
+        assertTrue(balances.isEmpty());
+        verifyNoInteractions(balanceRepository);
+    }
+
+    private Account account(Long id, String name, AccountType type) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Account(id, AccountName.of(name), type, now, now);
+    }
+
+    private AccountBalanceEntity balance(Long accountId, BigDecimal debits, BigDecimal credits) {
+        AccountBalanceEntity entity = new AccountBalanceEntity();
+        entity.setAccountId(accountId);
+        entity.setDebitTotal(debits);
+        entity.setCreditTotal(credits);
+        entity.setVersion(1L);
+        entity.setUpdatedAt(LocalDateTime.now());
+        return entity;
+    }
+
+    private AccountBalanceSnapshotEntity snapshot(Long accountId, LocalDateTime asOf,
+                                                  BigDecimal debits, BigDecimal credits) {
+        AccountBalanceSnapshotEntity entity = new AccountBalanceSnapshotEntity();
+        entity.setAccountId(accountId);
+        entity.setAsOf(asOf);
+        entity.setDebitTotal(debits);
+        entity.setCreditTotal(credits);
+        entity.setCreatedAt(asOf);
+        return entity;
+    }
+
+    private EntryTotals totals(BigDecimal debits, BigDecimal credits) {
+        EntryTotals totals = mock(EntryTotals.class);
+        when(totals.getDebitTotal()).thenReturn(debits);
+        when(totals.getCreditTotal()).thenReturn(credits);
+        return totals;
+    }
+
     private void stubEntries(Long accountId, BigDecimal debits, BigDecimal credits) {
-        when(entryRepository.sumByAccountIdAndEntryType(accountId, EntryType.DEBIT)).thenReturn(debits);
-        when(entryRepository.sumByAccountIdAndEntryType(accountId, EntryType.CREDIT)).thenReturn(credits);
+        when(balanceRepository.findById(accountId)).thenReturn(Optional.of(balance(accountId, debits, credits)));
     }
 }
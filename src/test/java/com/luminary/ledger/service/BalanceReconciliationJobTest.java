@@ -0,0 +1,47 @@
+package com.luminary.ledger.service;
+
+import com.luminary.ledger.persistence.repository.AccountBalanceRepository;
+import com.luminary.ledger.persistence.repository.AccountBalanceRepository.BalanceDiscrepancy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceReconciliationJobTest {
+
+    @Mock
+    private AccountBalanceRepository balanceRepository;
+
+    private BalanceReconciliationJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new BalanceReconciliationJob(balanceRepository);
+    }
+
+    @Test
+    void reconcile_noDiscrepancies() {
+        when(balanceRepository.findDiscrepancies()).thenReturn(List.of());
+
+        assertTrue(job.reconcile().isEmpty());
+    }
+
+    @Test
+    void reconcile_reportsDiscrepancies() {
+        BalanceDiscrepancy discrepancy = mock(BalanceDiscrepancy.class);
+        when(discrepancy.getAccountId()).thenReturn(1L);
+        when(balanceRepository.findDiscrepancies()).thenReturn(List.of(discrepancy));
+
+        List<BalanceDiscrepancy> result = job.reconcile();
+
+        assertEquals(1, result.size());
+        assertEquals(1L, result.get(0).getAccountId());
+    }
+}
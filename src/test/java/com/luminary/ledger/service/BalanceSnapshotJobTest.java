@@ -0,0 +1,58 @@
+package com.luminary.ledger.service;
+
+import com.luminary.ledger.persistence.repository.AccountBalanceSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceSnapshotJobTest {
+
+    private static final LocalDateTime AS_OF = LocalDateTime.of(2025, 3, 2, 0, 0);
+
+    @Mock
+    private AccountBalanceSnapshotRepository snapshotRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BalanceSnapshotJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new BalanceSnapshotJob(snapshotRepository, new TransactionTemplate(transactionManager), 2);
+    }
+
+    @Test
+    void snapshot_walksAccountsInBatches() {
+        when(snapshotRepository.lockNextAccountIds(0L, 2)).thenReturn(List.of(1L, 2L));
+        when(snapshotRepository.lockNextAccountIds(2L, 2)).thenReturn(List.of(5L));
+        when(snapshotRepository.lockNextAccountIds(5L, 2)).thenReturn(List.of());
+
+        int written = job.snapshot(AS_OF);
+
+        assertEquals(3, written);
+        verify(snapshotRepository).snapshot(List.of(1L, 2L), AS_OF);
+        verify(snapshotRepository).snapshot(List.of(5L), AS_OF);
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void snapshot_noAccounts_writesNothing() {
+        when(snapshotRepository.lockNextAccountIds(0L, 2)).thenReturn(List.of());
+
+        assertEquals(0, job.snapshot(AS_OF));
+        verify(snapshotRepository, never()).snapshot(any(), any());
+    }
+}
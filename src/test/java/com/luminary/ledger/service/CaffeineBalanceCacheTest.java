@@ -0,0 +1,85 @@
+package com.luminary.ledger.service;
+
+import com.luminary.ledger.domain.vo.BalanceTotals;
+import com.luminary.ledger.domain.vo.Money;
+import com.luminary.ledger.service.BalanceCache.CachedBalance;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CaffeineBalanceCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CaffeineBalanceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CaffeineBalanceCache(meterRegistry, 100, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_loadsOnceThenServesFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return balance("10", "0", 1);
+        });
+        BalanceTotals totals = cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return balance("99", "0", 2);
+        });
+
+        assertEquals(1, loads.get());
+        assertEquals(Money.of("10"), totals.debits());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void get_missingBalanceIsNotCached() {
+        assertNull(cache.get(1L, id -> null));
+        assertEquals(Money.of("5"), cache.get(1L, id -> balance("5", "0", 1)).debits());
+    }
+
+    @Test
+    void putAllAfterCommit_appliesOnlyAfterCommit() {
+        cache.get(1L, id -> balance("10", "0", 1));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.putAllAfterCommit(Map.of(1L, balance("25", "0", 2)));
+
+        assertEquals(Money.of("10"), cache.get(1L, id -> null).debits());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(Money.of("25"), cache.get(1L, id -> null).debits());
+    }
+
+    @Test
+    void put_keepsNewerVersion() {
+        cache.put(1L, balance("30", "0", 3));
+        cache.put(1L, balance("20", "0", 2));
+
+        assertEquals(Money.of("30"), cache.get(1L, id -> null).debits());
+    }
+
+    private CachedBalance balance(String debits, String credits, long version) {
+        return new CachedBalance(BalanceTotals.of(Money.of(debits), Money.of(credits)), version);
+    }
+}
@@ -0,0 +1,196 @@
+package com.luminary.ledger.service;
+
+import com.luminary.ledger.domain.enums.EntryType;
+import com.luminary.ledger.domain.exception.IdempotencyKeyReuseException;
+import com.luminary.ledger.domain.model.Transaction;
+import com.luminary.ledger.domain.model.TransactionEntry;
+import com.luminary.ledger.domain.vo.IdempotencyKey;
+import com.luminary.ledger.domain.vo.Money;
+import com.luminary.ledger.persistence.entity.IdempotencyKeyEntity;
+import com.luminary.ledger.persistence.repository.IdempotencyKeyRepository;
+import com.luminary.ledger.service.IdempotencyService.IdempotentResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final IdempotencyKey KEY = IdempotencyKey.of("key-1", "hash-1");
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private IdempotencyService idempotencyService;
+
+    private Transaction request;
+    private Transaction saved;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(transactionService, idempotencyKeyRepository,
+                new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+        LocalDateTime now = LocalDateTime.now();
+        request = Transaction.create("Card payment", now, List.of(
+                TransactionEntry.create(1L, EntryType.DEBIT, Money.of("25.00")),
+                TransactionEntry.create(2L, EntryType.CREDIT, Money.of("25.00"))));
+        saved = new Transaction(10L, "Card payment", now, request.getEntries(), now);
+    }
+
+    @Test
+    void createTransaction_newKey_postsOnce() {
+        when(idempotencyKeyRepository.findById("key-1")).thenReturn(Optional.empty());
+        when(transactionService.createTransaction(request, KEY, List.of())).thenReturn(saved);
+
+        IdempotentResult result = idempotencyService.createTransaction(KEY, () -> request);
+
+        assertEquals(10L, result.transaction().getId());
+        assertFalse(result.replayed());
+    }
+
+    @Test
+    void createTransaction_repeatedKey_replaysFromCacheWithoutMappingRequest() {
+        when(idempotencyKeyRepository.findById("key-1")).thenReturn(Optional.empty());
+        when(transactionService.createTransaction(request, KEY, List.of())).thenReturn(saved);
+        idempotencyService.createTransaction(KEY, () -> request);
+        when(transactionService.getTransaction(10L, saved.getDate())).thenReturn(saved);
+
+        IdempotentResult retry = idempotencyService.createTransaction(KEY, () -> fail("request re-validated"));
+
+        assertTrue(retry.replayed());
+        assertEquals(10L, retry.transaction().getId());
+        verify(transactionService, times(1)).createTransaction(any(), any(), any());
+        verify(idempotencyKeyRepository, times(1)).findById("key-1");
+    }
+
+    @Test
+    void createTransaction_keyStoredByEarlierProcess_replaysFromDatabase() {
+        when(idempotencyKeyRepository.findById("key-1")).thenReturn(Optional.of(storedKey()));
+        when(transactionService.getTransaction(10L, saved.getDate())).thenReturn(saved);
+
+        IdempotentResult result = idempotencyService.createTransaction(KEY, () -> fail("request re-validated"));
+
+        assertTrue(result.replayed());
+        verify(transactionService, never()).createTransaction(any(), any(), any());
+    }
+
+    @Test
+    void createTransaction_keyCommittedConcurrentlyElsewhere_replaysOriginal() {
+        when(idempotencyKeyRepository.findById("key-1"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(storedKey()));
+        when(transactionService.createTransaction(request, KEY, List.of()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(transactionService.getTransaction(10L, saved.getDate())).thenReturn(saved);
+
+        IdempotentResult result = idempotencyService.createTransaction(KEY, () -> request);
+
+        assertTrue(result.replayed());
+        assertEquals(10L, result.transaction().getId());
+    }
+
+    @Test
+    void createTransaction_concurrentDuplicates_postOnce() throws Exception {
+        CountDownLatch posting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(idempotencyKeyRepository.findById("key-1")).thenReturn(Optional.empty());
+        when(transactionService.createTransaction(eq(request), eq(KEY), eq(List.of()))).thenAnswer(invocation -> {
+            posting.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return saved;
+        });
+        lenient().when(transactionService.getTransaction(10L, saved.getDate())).thenReturn(saved);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Supplier<Transaction> mapping = () -> request;
+            Future<IdempotentResult> first = executor.submit(() -> idempotencyService.createTransaction(KEY, mapping));
+            assertTrue(posting.await(5, TimeUnit.SECONDS));
+            Future<IdempotentResult> second = executor.submit(() -> idempotencyService.createTransaction(KEY, mapping));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertFalse(first.get(5, TimeUnit.SECONDS).replayed());
+            IdempotentResult duplicate = second.get(5, TimeUnit.SECONDS);
+            assertEquals(10L, duplicate.transaction().getId());
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(transactionService, times(1)).createTransaction(any(), any(), any());
+    }
+
+    @Test
+    void createTransaction_keyStoredWithDifferentRequest_rejectsReuse() {
+        when(idempotencyKeyRepository.findById("key-1")).thenReturn(Optional.of(storedKey()));
+
+        assertThrows(IdempotencyKeyReuseException.class, () -> idempotencyService.createTransaction(
+                IdempotencyKey.of("key-1", "hash-2"), () -> fail("request re-validated")));
+
+        verifyNoInteractions(transactionService);
+    }
+
+    @Test
+    void createTransaction_cachedKeyWithDifferentRequest_rejectsReuse() {
+        when(idempotencyKeyRepository.findById("key-1")).thenReturn(Optional.empty());
+        when(transactionService.createTransaction(request, KEY, List.of())).thenReturn(saved);
+        idempotencyService.createTransaction(KEY, () -> request);
+
+        assertThrows(IdempotencyKeyReuseException.class, () -> idempotencyService.createTransaction(
+                IdempotencyKey.of("key-1", "hash-2"), () -> fail("request re-validated")));
+
+        verify(transactionService, times(1)).createTransaction(any(), any(), any());
+        verify(transactionService, never()).getTransaction(any(), any());
+    }
+
+    @Test
+    void createTransaction_keyStoredWithoutRequestHash_replays() {
+        IdempotencyKeyEntity legacy = storedKey();
+        legacy.setRequestHash(null);
+        when(idempotencyKeyRepository.findById("key-1")).thenReturn(Optional.of(legacy));
+        when(transactionService.getTransaction(10L, saved.getDate())).thenReturn(saved);
+
+        IdempotentResult result = idempotencyService.createTransaction(
+                IdempotencyKey.of("key-1", "hash-2"), () -> fail("request re-validated"));
+
+        assertTrue(result.replayed());
+    }
+
+    @Test
+    void createTransaction_blankKey_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> idempotencyService.createTransaction(IdempotencyKey.of(" ", "hash-1"), () -> request));
+        verifyNoInteractions(transactionService, idempotencyKeyRepository);
+    }
+
+    private IdempotencyKeyEntity storedKey() {
+        IdempotencyKeyEntity stored = new IdempotencyKeyEntity();
+        stored.setKey("key-1");
+        stored.setTransactionId(10L);
+        stored.setTransactionDate(saved.getDate());
+        stored.setRequestHash("hash-1");
+        return stored;
+    }
+}
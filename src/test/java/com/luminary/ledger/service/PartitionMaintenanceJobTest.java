@@ -0,0 +1,47 @@
+package com.luminary.ledger.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionMaintenanceJobTest {
+
+    private static final String CREATE_PARTITIONS = "SELECT create_ledger_partitions(CAST(? AS DATE))";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void createPartitions_coversMonthsAheadAcrossYearEnd() {
+        when(jdbcTemplate.queryForObject(CREATE_PARTITIONS, Integer.class, "2025-11-01")).thenReturn(0);
+        when(jdbcTemplate.queryForObject(CREATE_PARTITIONS, Integer.class, "2025-12-01")).thenReturn(0);
+        when(jdbcTemplate.queryForObject(CREATE_PARTITIONS, Integer.class, "2026-01-01")).thenReturn(2);
+        when(jdbcTemplate.queryForObject(CREATE_PARTITIONS, Integer.class, "2026-02-01")).thenReturn(2);
+        PartitionMaintenanceJob job = new PartitionMaintenanceJob(jdbcTemplate, 3);
+
+        int created = job.createPartitions(YearMonth.of(2025, 11));
+
+        assertEquals(4, created);
+    }
+
+    @Test
+    void createPartitions_monthBlockedByDefaultPartition_continuesWithLaterMonths() {
+        when(jdbcTemplate.queryForObject(CREATE_PARTITIONS, Integer.class, "2025-03-01"))
+                .thenThrow(new BadSqlGrammarException("create partitions", CREATE_PARTITIONS,
+                        new SQLException("updated partition constraint for default partition would be violated")));
+        when(jdbcTemplate.queryForObject(CREATE_PARTITIONS, Integer.class, "2025-04-01")).thenReturn(2);
+        PartitionMaintenanceJob job = new PartitionMaintenanceJob(jdbcTemplate, 1);
+
+        assertEquals(2, job.createPartitions(YearMonth.of(2025, 3)));
+    }
+}
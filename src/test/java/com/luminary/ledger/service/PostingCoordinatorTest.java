@@ -0,0 +1,243 @@
+package com.luminary.ledger.service;
+
+import com.luminary.ledger.domain.enums.EntryType;
+import com.luminary.ledger.domain.model.Transaction;
+import com.luminary.ledger.domain.model.TransactionEntry;
+import com.luminary.ledger.domain.vo.Money;
+import com.luminary.ledger.persistence.tracking.QueryStats;
+import com.luminary.ledger.persistence.tracking.QueryTracker;
+import com.luminary.ledger.persistence.tracking.TrackingStatementInspector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostingCoordinatorTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PostingCoordinator coordinator;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coordinator = new PostingCoordinator(new TransactionTemplate(transactionManager), meterRegistry, 8, 16);
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void post_singlePosting_writesInOwnTransaction() {
+        Transaction sale = sale("Sale", 1L, 2L);
+
+        List<Transaction> saved = coordinator.post(List.of(1L, 2L), () -> List.of(sale));
+
+        assertEquals(List.of(sale), saved);
+        verify(transactionManager).getTransaction(any());
+        assertEquals(1, meterRegistry.get("ledger.postings.queue.time").timer().count());
+    }
+
+    @Test
+    void post_concurrentPostingsToSameAccount_commitTogether() throws Exception {
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        Supplier<List<Transaction>> blocking = () -> {
+            firstStarted.countDown();
+            await(releaseFirst);
+            return List.of(sale("First", 1L, 2L));
+        };
+
+        Future<List<Transaction>> first = executor.submit(() -> coordinator.post(List.of(1L, 2L), blocking));
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+        Future<List<Transaction>> second = submitWhenQueued(List.of(1L, 3L), () -> List.of(sale("Second", 1L, 3L)));
+        Future<List<Transaction>> third = submitWhenQueued(List.of(1L, 4L), () -> List.of(sale("Third", 4L, 1L)));
+        releaseFirst.countDown();
+
+        assertEquals("First", first.get(5, TimeUnit.SECONDS).get(0).getDescription());
+        assertEquals("Second", second.get(5, TimeUnit.SECONDS).get(0).getDescription());
+        assertEquals("Third", third.get(5, TimeUnit.SECONDS).get(0).getDescription());
+        verify(transactionManager, times(2)).getTransaction(any());
+        assertEquals(2.0, meterRegistry.get("ledger.postings.group.size").summary().max());
+        assertEquals(3, meterRegistry.get("ledger.postings.queue.time").timer().count());
+    }
+
+    @Test
+    void post_failingPostingInGroup_doesNotFailOthers() throws Exception {
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        Future<List<Transaction>> first = executor.submit(() -> coordinator.post(List.of(1L, 2L), () -> {
+            firstStarted.countDown();
+            await(releaseFirst);
+            return List.of(sale("First", 1L, 2L));
+        }));
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+        Future<List<Transaction>> good = submitWhenQueued(List.of(1L, 2L), () -> List.of(sale("Good", 1L, 2L)));
+        Future<List<Transaction>> bad = submitWhenQueued(List.of(1L, 2L), () -> {
+            throw new IllegalStateException("boom");
+        });
+        releaseFirst.countDown();
+
+        first.get(5, TimeUnit.SECONDS);
+        assertEquals("Good", good.get(5, TimeUnit.SECONDS).get(0).getDescription());
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> bad.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+        verify(transactionManager, times(4)).getTransaction(any());
+    }
+
+    @Test
+    void post_postingWrittenByAnotherCaller_countsTowardItsOwnRequest() throws Exception {
+        TrackingStatementInspector inspector = new TrackingStatementInspector();
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        Future<QueryStats> first = executor.submit(() -> tracked(() -> coordinator.post(List.of(1L, 2L), () -> {
+            firstStarted.countDown();
+            await(releaseFirst);
+            inspector.inspect("insert into transactions");
+            return List.of(sale("First", 1L, 2L));
+        })));
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+        Future<QueryStats> second = submitWhenBlocked(() -> tracked(() -> coordinator.post(List.of(1L, 3L), () -> {
+            inspector.inspect("insert into transactions");
+            inspector.inspect("insert into transaction_entries");
+            return List.of(sale("Second", 1L, 3L));
+        })));
+        Future<QueryStats> third = submitWhenBlocked(() -> tracked(() -> coordinator.post(List.of(1L, 4L), () -> {
+            inspector.inspect("insert into transactions");
+            inspector.inspect("insert into transaction_entries");
+            inspector.inspect("update account_balances");
+            return List.of(sale("Third", 4L, 1L));
+        })));
+        releaseFirst.countDown();
+
+        // Second and third commit as one group, written by whichever of them takes the combiner lock.
+        assertEquals(1, first.get(5, TimeUnit.SECONDS).statements());
+        assertEquals(2, second.get(5, TimeUnit.SECONDS).statements());
+        assertEquals(3, third.get(5, TimeUnit.SECONDS).statements());
+        assertEquals(2.0, meterRegistry.get("ledger.postings.group.size").summary().max());
+    }
+
+    @Test
+    void post_moreQueuedThanGroupSize_returnsOnlyOnceOwnPostingIsWritten() throws Exception {
+        PostingCoordinator small = new PostingCoordinator(
+                new TransactionTemplate(transactionManager), meterRegistry, 1, 2);
+        int posters = 16;
+        int postsEach = 500;
+        ExecutorService pool = Executors.newFixedThreadPool(posters);
+        AtomicInteger[] writes = new AtomicInteger[posters * postsEach];
+        Arrays.setAll(writes, i -> new AtomicInteger());
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int p = 0; p < posters; p++) {
+                int poster = p;
+                results.add(pool.submit(() -> {
+                    int mismatches = 0;
+                    for (int i = 0; i < postsEach; i++) {
+                        int id = poster * postsEach + i;
+                        Transaction sale = sale("Sale " + id, 1L, 2L);
+                        List<Transaction> saved = small.post(List.of(1L, 2L), () -> {
+                            writes[id].incrementAndGet();
+                            return List.of(sale);
+                        });
+                        if (saved == null || saved.get(0) != sale) {
+                            mismatches++;
+                        }
+                    }
+                    return mismatches;
+                }));
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(0, result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertTrue(Arrays.stream(writes).allMatch(count -> count.get() == 1));
+    }
+
+    @Test
+    void post_insideCallerTransaction_writesInline() {
+        Transaction sale = sale("Import", 1L, 2L);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertEquals(List.of(sale), coordinator.post(List.of(1L, 2L), () -> List.of(sale)));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        verifyNoInteractions(transactionManager);
+    }
+
+    private Future<List<Transaction>> submitWhenQueued(List<Long> lockKeys, Supplier<List<Transaction>> writer)
+            throws InterruptedException {
+        return submitWhenBlocked(() -> coordinator.post(lockKeys, writer));
+    }
+
+    private <T> Future<T> submitWhenBlocked(Callable<T> task) throws InterruptedException {
+        CountDownLatch submitted = new CountDownLatch(1);
+        Thread[] poster = new Thread[1];
+        Future<T> future = executor.submit(() -> {
+            poster[0] = Thread.currentThread();
+            submitted.countDown();
+            return task.call();
+        });
+        assertTrue(submitted.await(5, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (poster[0].getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        return future;
+    }
+
+    private static QueryStats tracked(Runnable request) {
+        QueryTracker.start();
+        request.run();
+        return QueryTracker.stop();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Transaction sale(String description, Long debitAccountId, Long creditAccountId) {
+        return Transaction.create(description, LocalDateTime.now(), List.of(
+                TransactionEntry.create(debitAccountId, EntryType.DEBIT, Money.of("10.00")),
+                TransactionEntry.create(creditAccountId, EntryType.CREDIT, Money.of("10.00"))));
+    }
+}
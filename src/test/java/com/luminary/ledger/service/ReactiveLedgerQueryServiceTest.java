@@ -0,0 +1,105 @@
+package com.luminary.ledger.service;
+
+import com.luminary.ledger.domain.enums.AccountType;
+import com.luminary.ledger.domain.enums.EntryType;
+import com.luminary.ledger.domain.exception.AccountNotFoundException;
+import com.luminary.ledger.domain.model.Account;
+import com.luminary.ledger.domain.model.Transaction;
+import com.luminary.ledger.domain.model.TransactionEntry;
+import com.luminary.ledger.domain.vo.AccountName;
+import com.luminary.ledger.domain.vo.BalanceTotals;
+import com.luminary.ledger.domain.vo.Money;
+import com.luminary.ledger.persistence.reactive.ReactiveAccountRepository;
+import com.luminary.ledger.persistence.reactive.ReactiveBalanceRepository;
+import com.luminary.ledger.persistence.reactive.ReactiveTransactionHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Slice;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveLedgerQueryServiceTest {
+
+    @Mock
+    private ReactiveAccountRepository accountRepository;
+
+    @Mock
+    private ReactiveBalanceRepository balanceRepository;
+
+    @Mock
+    private ReactiveTransactionHistoryRepository historyRepository;
+
+    private ReactiveLedgerQueryService queryService;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        queryService = new ReactiveLedgerQueryService(accountRepository, balanceRepository, historyRepository);
+        LocalDateTime now = LocalDateTime.now();
+        account = new Account(1L, AccountName.of("Cash"), AccountType.ASSET, now, now);
+    }
+
+    @Test
+    void getAccount_notFound_errors() {
+        when(accountRepository.findById(1L)).thenReturn(Mono.empty());
+
+        assertThrows(AccountNotFoundException.class, () -> queryService.getAccount(1L).block());
+    }
+
+    @Test
+    void getBalance_usesMaintainedTotals() {
+        when(balanceRepository.findTotals(1L))
+                .thenReturn(Mono.just(BalanceTotals.of(new BigDecimal("150.00"), new BigDecimal("50.00"))));
+
+        assertEquals(0, new BigDecimal("100.00").compareTo(queryService.getBalance(account).block()));
+    }
+
+    @Test
+    void getBalance_missingBalanceRow_readsZero() {
+        when(balanceRepository.findTotals(1L)).thenReturn(Mono.empty());
+
+        assertEquals(0, BigDecimal.ZERO.compareTo(queryService.getBalance(account).block()));
+    }
+
+    @Test
+    void getTransactionsByAccountId_fetchesOneExtraToDetectNextPage() {
+        when(accountRepository.findById(1L)).thenReturn(Mono.just(account));
+        when(historyRepository.findPage(1L, null, 3))
+                .thenReturn(Flux.just(transaction(3L), transaction(2L), transaction(1L)));
+
+        Slice<Transaction> slice = queryService.getTransactionsByAccountId(1L, null, 2).block();
+
+        assertEquals(List.of(3L, 2L), slice.getContent().stream().map(Transaction::getId).toList());
+        assertTrue(slice.hasNext());
+    }
+
+    @Test
+    void getTransactionsByAccountId_accountNotFound_skipsHistoryQuery() {
+        when(accountRepository.findById(1L)).thenReturn(Mono.empty());
+
+        assertThrows(AccountNotFoundException.class,
+                () -> queryService.getTransactionsByAccountId(1L, null, 2).block());
+        verify(historyRepository, never()).findPage(any(), any(), anyInt());
+    }
+
+    private Transaction transaction(Long id) {
+        LocalDateTime date = LocalDateTime.of(2025, 1, id.intValue(), 10, 0);
+        return new Transaction(id, "Sale", date, List.of(
+                new TransactionEntry(id * 10, 1L, EntryType.DEBIT, Money.of("10.00"), date),
+                new TransactionEntry(id * 10 + 1, 2L, EntryType.CREDIT, Money.of("10.00"), date)), date);
+    }
+}
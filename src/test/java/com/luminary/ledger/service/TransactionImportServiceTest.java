@@ -0,0 +1,233 @@
+package com.luminary.ledger.service;
+
+import com.luminary.ledger.domain.enums.EntryType;
+import com.luminary.ledger.domain.enums.ImportFormat;
+import com.luminary.ledger.domain.enums.ImportStatus;
+import com.luminary.ledger.domain.exception.AccountNotFoundException;
+import com.luminary.ledger.domain.exception.ImportJobConflictException;
+import com.luminary.ledger.domain.exception.InvalidImportRecordException;
+import com.luminary.ledger.domain.model.ImportJob;
+import com.luminary.ledger.domain.model.Transaction;
+import com.luminary.ledger.domain.model.TransactionEntry;
+import com.luminary.ledger.domain.vo.Money;
+import com.luminary.ledger.persistence.entity.ImportJobEntity;
+import com.luminary.ledger.persistence.mapper.ImportJobEntityMapper;
+import com.luminary.ledger.persistence.repository.ImportJobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionImportServiceTest {
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private ImportJobRepository importJobRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new TransactionImportService(transactionService, importJobRepository,
+                new ImportJobEntityMapper(), new TransactionTemplate(transactionManager), 2, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.shutdown();
+    }
+
+    @Test
+    void startImport_commitsOneChunkPerChunkSize() {
+        stubNewJob(ImportStatus.COMPLETED, 5, 5);
+        stubProgressRecorded();
+
+        ImportJob job = importService.startImport(ImportFormat.NDJSON, new ListSource(5, -1));
+
+        assertEquals(ImportStatus.COMPLETED, job.getStatus());
+        verify(transactionService, times(3)).createTransactions(anyList());
+        verify(importJobRepository).recordProgress(eq(1L), eq(2L), eq(2L), any(), any());
+        verify(importJobRepository).recordProgress(eq(1L), eq(4L), eq(2L), any(), any());
+        verify(importJobRepository).recordProgress(eq(1L), eq(5L), eq(1L), any(), any());
+        verify(importJobRepository).updateStatus(eq(1L), eq(ImportStatus.COMPLETED), isNull(), any(), any());
+    }
+
+    @Test
+    void startImport_invalidRecord_keepsLastCommittedOffset() {
+        stubNewJob(ImportStatus.FAILED, 2, 2);
+        stubProgressRecorded();
+
+        ImportJob job = importService.startImport(ImportFormat.NDJSON, new ListSource(5, 3));
+
+        assertEquals(ImportStatus.FAILED, job.getStatus());
+        verify(importJobRepository).recordProgress(eq(1L), eq(2L), eq(2L), any(), any());
+        verify(importJobRepository, never()).recordProgress(eq(1L), eq(4L), anyLong(), any(), any());
+        verify(importJobRepository).updateStatus(eq(1L), eq(ImportStatus.FAILED),
+                contains("line 3"), any(), any());
+    }
+
+    @Test
+    void startImport_chunkFailure_marksJobFailed() {
+        stubNewJob(ImportStatus.FAILED, 0, 0);
+        when(transactionService.createTransactions(anyList())).thenThrow(new AccountNotFoundException(99L));
+
+        ImportJob job = importService.startImport(ImportFormat.NDJSON, new ListSource(3, -1));
+
+        assertEquals(ImportStatus.FAILED, job.getStatus());
+        verify(importJobRepository, never()).recordProgress(any(), anyLong(), anyLong(), any(), any());
+        verify(importJobRepository).updateStatus(eq(1L), eq(ImportStatus.FAILED),
+                contains("Account not found"), any(), any());
+    }
+
+    @Test
+    void startImport_eachWriteGuardedByPreviousHeartbeat() {
+        List<ImportJobEntity> saved = stubNewJob(ImportStatus.COMPLETED, 5, 5);
+        stubProgressRecorded();
+
+        importService.startImport(ImportFormat.NDJSON, new ListSource(5, -1));
+
+        ArgumentCaptor<LocalDateTime> heartbeats = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> nows = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(importJobRepository, times(3)).recordProgress(eq(1L), anyLong(), anyLong(),
+                heartbeats.capture(), nows.capture());
+        assertEquals(saved.get(0).getUpdatedAt(), heartbeats.getAllValues().get(0));
+        assertEquals(nows.getAllValues().get(0), heartbeats.getAllValues().get(1));
+        assertEquals(nows.getAllValues().get(1), heartbeats.getAllValues().get(2));
+        verify(importJobRepository).updateStatus(eq(1L), eq(ImportStatus.COMPLETED), isNull(),
+                eq(nows.getAllValues().get(2)), any());
+    }
+
+    @Test
+    void startImport_claimLost_rollsBackChunkAndStops() {
+        stubNewJob(ImportStatus.RUNNING, 0, 0);
+        when(importJobRepository.recordProgress(eq(1L), anyLong(), anyLong(), any(), any())).thenReturn(0);
+        TransactionStatus chunk = mock(TransactionStatus.class);
+        when(transactionManager.getTransaction(any())).thenReturn(chunk);
+
+        ImportJob job = importService.startImport(ImportFormat.NDJSON, new ListSource(5, -1));
+
+        assertEquals(ImportStatus.RUNNING, job.getStatus());
+        verify(transactionService, times(1)).createTransactions(anyList());
+        verify(transactionManager).rollback(chunk);
+        verify(importJobRepository).updateStatus(eq(1L), eq(ImportStatus.FAILED), any(), any(), any());
+    }
+
+    @Test
+    void resumeImport_skipsCommittedOffset() {
+        ImportJobEntity failed = jobEntity(ImportStatus.FAILED, 2, 2);
+        when(importJobRepository.findById(1L)).thenReturn(
+                Optional.of(failed),
+                Optional.of(jobEntity(ImportStatus.COMPLETED, 5, 5)));
+        when(importJobRepository.claimForResume(eq(1L), eq(failed.getUpdatedAt()), eq(2L), any(), any()))
+                .thenReturn(1);
+        stubProgressRecorded();
+        ListSource source = new ListSource(5, -1);
+
+        ImportJob job = importService.resumeImport(1L, source);
+
+        assertEquals(ImportStatus.COMPLETED, job.getStatus());
+        assertEquals(2, source.skipped);
+        verify(importJobRepository).recordProgress(eq(1L), eq(4L), eq(2L), any(), any());
+        verify(importJobRepository).recordProgress(eq(1L), eq(5L), eq(1L), any(), any());
+    }
+
+    @Test
+    void resumeImport_notClaimable_throwsConflict() {
+        when(importJobRepository.findById(1L)).thenReturn(Optional.of(jobEntity(ImportStatus.COMPLETED, 5, 5)));
+        when(importJobRepository.claimForResume(eq(1L), any(), eq(5L), any(), any())).thenReturn(0);
+
+        assertThrows(ImportJobConflictException.class,
+                () -> importService.resumeImport(1L, new ListSource(5, -1)));
+
+        verifyNoInteractions(transactionService);
+    }
+
+    private List<ImportJobEntity> stubNewJob(ImportStatus finalStatus, long offset, long imported) {
+        List<ImportJobEntity> saved = new ArrayList<>();
+        when(importJobRepository.save(any(ImportJobEntity.class))).thenAnswer(invocation -> {
+            ImportJobEntity entity = invocation.getArgument(0);
+            entity.setId(1L);
+            saved.add(entity);
+            return entity;
+        });
+        when(importJobRepository.findById(1L)).thenReturn(Optional.of(jobEntity(finalStatus, offset, imported)));
+        return saved;
+    }
+
+    private void stubProgressRecorded() {
+        when(importJobRepository.recordProgress(eq(1L), anyLong(), anyLong(), any(), any())).thenReturn(1);
+    }
+
+    private ImportJobEntity jobEntity(ImportStatus status, long offset, long imported) {
+        LocalDateTime now = LocalDateTime.now();
+        ImportJobEntity entity = new ImportJobEntity();
+        entity.setId(1L);
+        entity.setFormat(ImportFormat.NDJSON);
+        entity.setStatus(status);
+        entity.setCommittedOffset(offset);
+        entity.setImportedTransactions(imported);
+        entity.setCreatedAt(now);
+        entity.setUpdatedAt(now);
+        return entity;
+    }
+
+    private static class ListSource implements TransactionRecordSource {
+
+        private final List<Transaction> transactions = new ArrayList<>();
+        private final int invalidLine;
+        private int position;
+        private long skipped;
+
+        ListSource(int size, int invalidLine) {
+            this.invalidLine = invalidLine;
+            for (int i = 0; i < size; i++) {
+                transactions.add(Transaction.create("Import " + i, LocalDateTime.now(), List.of(
+                        TransactionEntry.create(1L, EntryType.DEBIT, Money.of("10")),
+                        TransactionEntry.create(2L, EntryType.CREDIT, Money.of("10")))));
+            }
+        }
+
+        @Override
+        public void skip(long offset) {
+            skipped = offset;
+            position = (int) offset;
+        }
+
+        @Override
+        public ImportRecord next() {
+            if (position >= transactions.size()) {
+                return null;
+            }
+            position++;
+            if (position == invalidLine) {
+                throw new InvalidImportRecordException(position, "unbalanced");
+            }
+            return new ImportRecord(transactions.get(position - 1), position);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
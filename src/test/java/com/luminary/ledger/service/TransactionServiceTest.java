@@ -3,34 +3,62 @@ package com.luminary.ledger.service;
 import com.luminary.ledger.domain.enums.AccountType;
 import com.luminary.ledger.domain.enums.EntryType;
 import com.luminary.ledger.domain.exception.AccountNotFoundException;
+import com.luminary.ledger.domain.exception.BalanceVersionMismatchException;
 import com.luminary.ledger.domain.exception.TransactionNotFoundException;
 import com.luminary.ledger.domain.model.Transaction;
 import com.luminary.ledger.domain.model.TransactionEntry;
+import com.luminary.ledger.domain.vo.BalanceTotals;
+import com.luminary.ledger.domain.vo.BalanceVersion;
+import com.luminary.ledger.domain.vo.IdempotencyKey;
 import com.luminary.ledger.domain.vo.Money;
+import com.luminary.ledger.domain.vo.TransactionCursor;
 import com.luminary.ledger.persistence.entity.AccountEntity;
 import com.luminary.ledger.persistence.entity.TransactionEntity;
 import com.luminary.ledger.persistence.entity.TransactionEntryEntity;
+import com.luminary.ledger.persistence.mapper.AccountEntityMapper;
 import com.luminary.ledger.persistence.mapper.TransactionEntityMapper;
+import com.luminary.ledger.persistence.repository.AccountBalanceRepository;
+import com.luminary.ledger.persistence.repository.AccountBalanceRepository.UpdatedBalance;
+import com.luminary.ledger.persistence.repository.AccountBalanceSnapshotRepository;
 import com.luminary.ledger.persistence.repository.AccountRepository;
+import com.luminary.ledger.persistence.repository.IdempotencyKeyRepository;
 import com.luminary.ledger.persistence.repository.TransactionRepository;
+import com.luminary.ledger.persistence.repository.TransactionRepository.TransactionKey;
+import com.luminary.ledger.persistence.writer.JpaTransactionWriter;
+import com.luminary.ledger.persistence.writer.TransactionBulkLoader;
+import com.luminary.ledger.service.BalanceCache.CachedBalance;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,9 +70,28 @@ class TransactionServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private AccountBalanceRepository balanceRepository;
+
+    @Mock
+    private AccountBalanceSnapshotRepository snapshotRepository;
+
     @Mock
     private TransactionEntityMapper transactionMapper;
 
+    @Mock
+    private BalanceCache balanceCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Mock
+    private TransactionBulkLoader bulkLoader;
+
+    private SimpleMeterRegistry meterRegistry;
     private TransactionService transactionService;
 
     private AccountEntity assetAccount;
@@ -55,7 +102,15 @@ class TransactionServiceTest {
 
     @BeforeEach
     void setUp() {
-        transactionService = new TransactionService(transactionRepository, accountRepository, transactionMapper);
+        meterRegistry = new SimpleMeterRegistry();
+        transactionService = new TransactionService(transactionRepository, accountRepository, balanceRepository,
+                snapshotRepository, transactionMapper,
+                new JpaTransactionWriter(transactionRepository, accountRepository, transactionMapper), bulkLoader,
+                balanceCache,
+                new AccountCache(accountRepository, new AccountEntityMapper(), new SimpleMeterRegistry(), 100,
+                        Duration.ofMinutes(10)),
+                new PostingCoordinator(new TransactionTemplate(transactionManager), new SimpleMeterRegistry(), 8, 16),
+                idempotencyKeyRepository, meterRegistry, 3);
 
         LocalDateTime now = LocalDateTime.now();
 
@@ -90,7 +145,8 @@ class TransactionServiceTest {
 
     @Test
     void createTransaction_success() {
-        when(accountRepository.findAllById(any())).thenReturn(List.of(assetAccount, revenueAccount));
+        stubBalanceUpdates();
+        stubAccounts();
         when(transactionMapper.toEntity(any(Transaction.class), anyMap())).thenReturn(transactionEntity);
         when(transactionRepository.save(transactionEntity)).thenReturn(transactionEntity);
         when(transactionMapper.toDomain(transactionEntity)).thenReturn(savedTransaction);
@@ -101,6 +157,204 @@ class TransactionServiceTest {
         assertEquals("Test sale", result.getDescription());
         verify(accountRepository).findAllById(any());
         verify(transactionRepository).save(transactionEntity);
+        verify(balanceRepository).applyDelta(1L, 0, new BigDecimal("100.0000"), new BigDecimal("0.0000"));
+        verify(balanceRepository).applyDelta(2L, 0, new BigDecimal("0.0000"), new BigDecimal("100.0000"));
+        verify(balanceCache).putAllAfterCommit(Map.of(
+                1L, new CachedBalance(BalanceTotals.of(Money.of("100"), Money.ZERO), 1L),
+                2L, new CachedBalance(BalanceTotals.of(Money.ZERO, Money.of("100")), 1L)));
+    }
+
+    @Test
+    void createTransaction_recordsEntriesPerTransaction() {
+        stubBalanceUpdates();
+        stubAccounts();
+        when(transactionMapper.toEntity(any(Transaction.class), anyMap())).thenReturn(transactionEntity);
+        when(transactionRepository.save(transactionEntity)).thenReturn(transactionEntity);
+        when(transactionMapper.toDomain(transactionEntity)).thenReturn(savedTransaction);
+
+        transactionService.createTransaction(balancedTransaction);
+
+        assertEquals(1, meterRegistry.get("ledger.transactions.entries").summary().count());
+        assertEquals(2.0, meterRegistry.get("ledger.transactions.entries").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("ledger.transactions.create").timer().count());
+    }
+
+    @Test
+    void createTransaction_sameAccountTwice_appliesSingleDelta() {
+        LocalDateTime now = LocalDateTime.now();
+        Transaction transaction = Transaction.create("Transfer", now, List.of(
+                TransactionEntry.create(1L, EntryType.DEBIT, Money.of("40")),
+                TransactionEntry.create(1L, EntryType.DEBIT, Money.of("60")),
+                TransactionEntry.create(2L, EntryType.CREDIT, Money.of("100"))
+        ));
+        stubBalanceUpdates();
+        stubAccounts();
+        when(transactionMapper.toEntity(any(Transaction.class), anyMap())).thenReturn(transactionEntity);
+        when(transactionRepository.save(transactionEntity)).thenReturn(transactionEntity);
+        when(transactionMapper.toDomain(transactionEntity)).thenReturn(savedTransaction);
+
+        transactionService.createTransaction(transaction);
+
+        verify(balanceRepository).applyDelta(1L, 0, new BigDecimal("100.0000"), new BigDecimal("0.0000"));
+        verify(balanceRepository).applyDelta(2L, 0, new BigDecimal("0.0000"), new BigDecimal("100.0000"));
+        verifyNoMoreInteractions(balanceRepository);
+    }
+
+    @Test
+    void createTransaction_shardedAccount_spreadsDeltasAndEvictsCachedBalance() {
+        revenueAccount.setBalanceShards(4);
+        stubBalanceUpdates();
+        stubAccounts();
+        when(transactionMapper.toEntity(any(Transaction.class), anyMap())).thenReturn(transactionEntity);
+        when(transactionRepository.save(transactionEntity)).thenReturn(transactionEntity);
+        when(transactionMapper.toDomain(transactionEntity)).thenReturn(savedTransaction);
+
+        for (int i = 0; i < 20; i++) {
+            transactionService.createTransaction(balancedTransaction);
+        }
+
+        ArgumentCaptor<Integer> shards = ArgumentCaptor.forClass(Integer.class);
+        verify(balanceRepository, times(20)).applyDelta(eq(2L), shards.capture(),
+                eq(new BigDecimal("0.0000")), eq(new BigDecimal("100.0000")));
+        assertTrue(shards.getAllValues().stream().allMatch(shard -> shard >= 0 && shard < 4));
+        assertTrue(shards.getAllValues().stream().distinct().count() > 1);
+        verify(balanceRepository, times(20)).applyDelta(1L, 0, new BigDecimal("100.0000"), new BigDecimal("0.0000"));
+        verify(balanceCache, times(20)).evictAllAfterCommit(Set.of(2L));
+        verify(balanceCache, times(20)).putAllAfterCommit(Map.of(
+                1L, new CachedBalance(BalanceTotals.of(Money.of("100"), Money.ZERO), 1L)));
+    }
+
+    @Test
+    void createTransaction_withIdempotencyKey_storesKeyWithPosting() {
+        stubBalanceUpdates();
+        stubAccounts();
+        when(transactionMapper.toEntity(any(Transaction.class), anyMap())).thenReturn(transactionEntity);
+        when(transactionRepository.save(transactionEntity)).thenReturn(transactionEntity);
+        when(transactionMapper.toDomain(transactionEntity)).thenReturn(savedTransaction);
+
+        transactionService.createTransaction(balancedTransaction, IdempotencyKey.of("retry-1", "hash-1"));
+
+        verify(idempotencyKeyRepository).insert("retry-1", 10L, savedTransaction.getDate(), "hash-1");
+    }
+
+    @Test
+    void createTransaction_currentBalanceVersion_postsWithVersionCheck() {
+        stubBalanceUpdates();
+        stubAccounts();
+        when(balanceRepository.applyDeltaIfVersion(1L, new BigDecimal("100.0000"), new BigDecimal("0.0000"), 7L))
+                .thenReturn(Optional.of(updatedBalance(1L, new BigDecimal("100.0000"), new BigDecimal("0.0000"))));
+        when(transactionMapper.toEntity(any(Transaction.class), anyMap())).thenReturn(transactionEntity);
+        when(transactionRepository.save(transactionEntity)).thenReturn(transactionEntity);
+        when(transactionMapper.toDomain(transactionEntity)).thenReturn(savedTransaction);
+
+        transactionService.createTransaction(balancedTransaction, null, List.of(BalanceVersion.of(1L, 7L)));
+
+        verify(balanceRepository, never()).applyDelta(eq(1L), anyInt(), any(), any());
+        verify(balanceRepository).applyDelta(2L, 0, new BigDecimal("0.0000"), new BigDecimal("100.0000"));
+    }
+
+    @Test
+    void createTransaction_accountReshardedSinceCached_evictsInsteadOfCachingShardRow() {
+        stubAccounts();
+        when(balanceRepository.applyDelta(eq(1L), anyInt(), any(), any()))
+                .thenReturn(updatedBalance(1L, new BigDecimal("100.0000"), new BigDecimal("0.0000")));
+        when(balanceRepository.applyDelta(eq(2L), anyInt(), any(), any()))
+                .thenReturn(updatedBalance(2L, new BigDecimal("0.0000"), new BigDecimal("100.0000"), 4));
+        when(transactionMapper.toEntity(any(Transaction.class), anyMap())).thenReturn(transactionEntity);
+        when(transactionRepository.save(transactionEntity)).thenReturn(transactionEntity);
+        when(transactionMapper.toDomain(transactionEntity)).thenReturn(savedTransaction);
+
+        transactionService.createTransaction(balancedTransaction);
+
+        verify(balanceCache).evictAllAfterCommit(Set.of(2L));
+        verify(balanceCache).putAllAfterCommit(Map.of(
+                1L, new CachedBalance(BalanceTotals.of(Money.of("100"), Money.ZERO), 1L)));
+    }
+
+    @Test
+    void createTransaction_staleBalanceVersion_throwsException() {
+        stubAccounts();
+        when(balanceRepository.applyDeltaIfVersion(1L, new BigDecimal("100.0000"), new BigDecimal("0.0000"), 6L))
+                .thenReturn(Optional.empty());
+        when(transactionMapper.toEntity(any(Transaction.class), anyMap())).thenReturn(transactionEntity);
+        when(transactionRepository.save(transactionEntity)).thenReturn(transactionEntity);
+
+        assertThrows(BalanceVersionMismatchException.class, () -> transactionService.createTransaction(
+                balancedTransaction, null, List.of(BalanceVersion.of(1L, 6L))));
+
+        verify(balanceRepository, never()).applyDelta(any(), anyInt(), any(), any());
+        verify(balanceCache, never()).putAllAfterCommit(any());
+        verify(balanceCache).evict(1L);
+    }
+
+    @Test
+    void createTransaction_versionZeroWithoutBalanceRow_createsRowAndPosts() {
+        stubBalanceUpdates();
+        stubAccounts();
+        when(balanceRepository.applyDeltaIfVersion(1L, new BigDecimal("100.0000"), new BigDecimal("0.0000"), 0L))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(updatedBalance(1L, new BigDecimal("100.0000"), new BigDecimal("0.0000"))));
+        when(balanceRepository.initialize(1L, 1)).thenReturn(1);
+        when(transactionMapper.toEntity(any(Transaction.class), anyMap())).thenReturn(transactionEntity);
+        when(transactionRepository.save(transactionEntity)).thenReturn(transactionEntity);
+        when(transactionMapper.toDomain(transactionEntity)).thenReturn(savedTransaction);
+
+        transactionService.createTransaction(balancedTransaction, null, List.of(BalanceVersion.of(1L, 0L)));
+
+        verify(balanceRepository, times(2))
+                .applyDeltaIfVersion(1L, new BigDecimal("100.0000"), new BigDecimal("0.0000"), 0L);
+        verify(balanceRepository, never()).applyDelta(eq(1L), anyInt(), any(), any());
+    }
+
+    @Test
+    void createTransaction_versionOfShardedAccount_throwsException() {
+        revenueAccount.setBalanceShards(4);
+        when(accountRepository.findAllById(any())).thenReturn(List.of(assetAccount, revenueAccount));
+
+        assertThrows(IllegalArgumentException.class, () -> transactionService.createTransaction(
+                balancedTransaction, null, List.of(BalanceVersion.of(2L, 3L))));
+
+        verifyNoInteractions(transactionRepository, balanceRepository);
+    }
+
+    @Test
+    void createTransaction_versionOfUntouchedAccount_throwsException() {
+        when(accountRepository.findAllById(any())).thenReturn(List.of(assetAccount, revenueAccount));
+
+        assertThrows(IllegalArgumentException.class, () -> transactionService.createTransaction(
+                balancedTransaction, null, List.of(BalanceVersion.of(3L, 0L))));
+
+        verifyNoInteractions(transactionRepository, balanceRepository);
+    }
+
+    @Test
+    void createTransaction_datedToday_keepsSnapshots() {
+        stubBalanceUpdates();
+        stubAccounts();
+        when(transactionMapper.toEntity(any(Transaction.class), anyMap())).thenReturn(transactionEntity);
+        when(transactionRepository.save(transactionEntity)).thenReturn(transactionEntity);
+        when(transactionMapper.toDomain(transactionEntity)).thenReturn(savedTransaction);
+
+        transactionService.createTransaction(Transaction.create("Today", LocalDate.now().atTime(LocalTime.NOON),
+                balancedTransaction.getEntries()));
+
+        verifyNoInteractions(snapshotRepository);
+    }
+
+    @Test
+    void createTransaction_backdated_invalidatesLaterSnapshots() {
+        LocalDateTime backdated = LocalDateTime.of(2024, 3, 1, 9, 30);
+        stubBalanceUpdates();
+        stubAccounts();
+        when(transactionMapper.toEntity(any(Transaction.class), anyMap())).thenReturn(transactionEntity);
+        when(transactionRepository.save(transactionEntity)).thenReturn(transactionEntity);
+        when(transactionMapper.toDomain(transactionEntity)).thenReturn(savedTransaction);
+
+        transactionService.createTransaction(Transaction.create("Late invoice", backdated,
+                balancedTransaction.getEntries()));
+
+        verify(snapshotRepository).deleteCoveringDate(1L, backdated);
+        verify(snapshotRepository).deleteCoveringDate(2L, backdated);
     }
 
     @Test
@@ -111,6 +365,7 @@ class TransactionServiceTest {
                 () -> transactionService.createTransaction(balancedTransaction));
 
         verify(transactionRepository, never()).save(any());
+        verify(balanceRepository, never()).applyDelta(any(), anyInt(), any(), any());
     }
 
     @Test
@@ -123,9 +378,85 @@ class TransactionServiceTest {
         verify(transactionRepository, never()).save(any());
     }
 
+    @Test
+    void createTransactions_loadsAccountsOnceAndSavesAll() {
+        LocalDateTime now = LocalDateTime.now();
+        Transaction second = Transaction.create("Second sale", now, List.of(
+                TransactionEntry.create(1L, EntryType.DEBIT, Money.of("50")),
+                TransactionEntry.create(2L, EntryType.CREDIT, Money.of("50"))
+        ));
+        TransactionEntity secondEntity = new TransactionEntity();
+        secondEntity.setId(11L);
+        stubBalanceUpdates();
+        stubAccounts();
+        when(transactionMapper.toEntity(eq(balancedTransaction), anyMap())).thenReturn(transactionEntity);
+        when(transactionMapper.toEntity(eq(second), anyMap())).thenReturn(secondEntity);
+        when(transactionRepository.saveAll(List.of(transactionEntity, secondEntity)))
+                .thenReturn(List.of(transactionEntity, secondEntity));
+        when(transactionMapper.toDomain(transactionEntity)).thenReturn(savedTransaction);
+        when(transactionMapper.toDomain(secondEntity)).thenReturn(new Transaction(11L, "Second sale", now, second.getEntries(), now));
+
+        List<Transaction> result = transactionService.createTransactions(List.of(balancedTransaction, second));
+
+        assertEquals(List.of(10L, 11L), result.stream().map(Transaction::getId).toList());
+        verify(accountRepository, times(1)).findAllById(any());
+        verify(transactionRepository, never()).save(any());
+        verify(balanceRepository).applyDelta(1L, 0, new BigDecimal("150.0000"), new BigDecimal("0.0000"));
+        verify(balanceRepository).applyDelta(2L, 0, new BigDecimal("0.0000"), new BigDecimal("150.0000"));
+        verifyNoInteractions(bulkLoader);
+    }
+
+    @Test
+    void createTransactions_atBulkLoadThreshold_loadsWithCopy() {
+        List<Transaction> batch = List.of(balancedTransaction, balancedTransaction, balancedTransaction);
+        List<Transaction> loaded = List.of(savedTransaction,
+                new Transaction(11L, "Test sale", savedTransaction.getDate(), savedTransaction.getEntries(),
+                        savedTransaction.getCreatedAt()),
+                new Transaction(12L, "Test sale", savedTransaction.getDate(), savedTransaction.getEntries(),
+                        savedTransaction.getCreatedAt()));
+        stubBalanceUpdates();
+        when(accountRepository.findAllById(any())).thenReturn(List.of(assetAccount, revenueAccount));
+        when(bulkLoader.load(batch)).thenReturn(loaded);
+
+        List<Transaction> result = transactionService.createTransactions(batch);
+
+        assertEquals(List.of(10L, 11L, 12L), result.stream().map(Transaction::getId).toList());
+        verifyNoInteractions(transactionRepository);
+        verify(balanceRepository).applyDelta(1L, 0, new BigDecimal("300.0000"), new BigDecimal("0.0000"));
+    }
+
+    @Test
+    void createTransactions_unknownAccount_savesNothing() {
+        when(accountRepository.findAllById(any())).thenReturn(List.of(assetAccount));
+
+        assertThrows(AccountNotFoundException.class,
+                () -> transactionService.createTransactions(List.of(balancedTransaction)));
+
+        verify(transactionRepository, never()).saveAll(any());
+        verifyNoInteractions(balanceRepository, balanceCache);
+    }
+
+    @Test
+    void createTransaction_cachedAccounts_skipsAccountSelect() {
+        stubBalanceUpdates();
+        stubAccounts();
+        when(transactionMapper.toEntity(any(Transaction.class), anyMap())).thenReturn(transactionEntity);
+        when(transactionRepository.save(transactionEntity)).thenReturn(transactionEntity);
+        when(transactionMapper.toDomain(transactionEntity)).thenReturn(savedTransaction);
+
+        transactionService.createTransaction(balancedTransaction);
+        transactionService.createTransaction(balancedTransaction);
+
+        verify(accountRepository, times(1)).findAllById(any());
+        verify(accountRepository, times(2)).getReferenceById(1L);
+        verify(accountRepository, times(2)).getReferenceById(2L);
+    }
+
     @Test
     void getTransaction_found() {
-        when(transactionRepository.findById(10L)).thenReturn(Optional.of(transactionEntity));
+        LocalDateTime date = savedTransaction.getDate();
+        when(transactionRepository.findDateById(10L)).thenReturn(Optional.of(date));
+        when(transactionRepository.findWithEntriesByIdAndDate(10L, date)).thenReturn(Optional.of(transactionEntity));
         when(transactionMapper.toDomain(transactionEntity)).thenReturn(savedTransaction);
 
         Transaction result = transactionService.getTransaction(10L);
@@ -136,19 +467,33 @@ class TransactionServiceTest {
 
     @Test
     void getTransaction_notFound_throwsException() {
-        when(transactionRepository.findById(99L)).thenReturn(Optional.empty());
+        when(transactionRepository.findDateById(99L)).thenReturn(Optional.empty());
 
         assertThrows(TransactionNotFoundException.class,
                 () -> transactionService.getTransaction(99L));
     }
 
+    @Test
+    void getTransaction_withDate_readsOnlyThatMonth() {
+        LocalDateTime date = savedTransaction.getDate();
+        when(transactionRepository.findWithEntriesByIdAndDate(10L, date)).thenReturn(Optional.of(transactionEntity));
+        when(transactionMapper.toDomain(transactionEntity)).thenReturn(savedTransaction);
+
+        Transaction result = transactionService.getTransaction(10L, date);
+
+        assertEquals(10L, result.getId());
+        verify(transactionRepository, never()).findDateById(any());
+    }
+
     @Test
     void getTransactionsByAccountId_returnsTransactions() {
         Pageable pageable = PageRequest.of(0, 20);
-        Page<Long> idPage = new PageImpl<>(List.of(10L), pageable, 1);
+        LocalDateTime date = LocalDateTime.of(2025, 1, 15, 10, 0);
+        Page<TransactionKey> keyPage = new PageImpl<>(List.of(key(10L, date)), pageable, 1);
         when(accountRepository.existsById(1L)).thenReturn(true);
-        when(transactionRepository.findTransactionIdsByAccountId(1L, pageable)).thenReturn(idPage);
-        when(transactionRepository.findAllWithEntriesByIds(List.of(10L))).thenReturn(List.of(transactionEntity));
+        when(transactionRepository.findTransactionKeysByAccountId(1L, pageable)).thenReturn(keyPage);
+        when(transactionRepository.findAllWithEntriesByIds(List.of(10L), date, date))
+                .thenReturn(List.of(transactionEntity));
         when(transactionMapper.toDomain(transactionEntity)).thenReturn(savedTransaction);
 
         Page<Transaction> result = transactionService.getTransactionsByAccountId(1L, pageable);
@@ -165,19 +510,144 @@ class TransactionServiceTest {
         assertThrows(AccountNotFoundException.class,
                 () -> transactionService.getTransactionsByAccountId(99L, pageable));
 
-        verify(transactionRepository, never()).findTransactionIdsByAccountId(any(), any());
+        verify(transactionRepository, never()).findTransactionKeysByAccountId(any(), any());
     }
 
     @Test
     void getTransactionsByAccountId_noTransactions_returnsEmptyList() {
         Pageable pageable = PageRequest.of(0, 20);
-        Page<Long> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+        Page<TransactionKey> emptyPage = new PageImpl<>(List.of(), pageable, 0);
         when(accountRepository.existsById(1L)).thenReturn(true);
-        when(transactionRepository.findTransactionIdsByAccountId(1L, pageable)).thenReturn(emptyPage);
+        when(transactionRepository.findTransactionKeysByAccountId(1L, pageable)).thenReturn(emptyPage);
 
         Page<Transaction> result = transactionService.getTransactionsByAccountId(1L, pageable);
 
         assertTrue(result.isEmpty());
-        verify(transactionRepository, never()).findAllWithEntriesByIds(any());
+        verify(transactionRepository, never()).findAllWithEntriesByIds(any(), any(), any());
+    }
+
+    @Test
+    void getTransactionsByAccountIdCursor_firstPage_fetchesOneExtraRow() {
+        LocalDateTime newest = LocalDateTime.of(2025, 2, 3, 10, 0);
+        when(accountRepository.existsById(1L)).thenReturn(true);
+        when(transactionRepository.findFirstTransactionKeysByAccountId(1L, Limit.of(2)))
+                .thenReturn(List.of(key(10L, newest), key(9L, newest.minusMonths(2))));
+        when(transactionRepository.findAllWithEntriesByIds(List.of(10L), newest, newest))
+                .thenReturn(List.of(transactionEntity));
+        when(transactionMapper.toDomain(transactionEntity)).thenReturn(savedTransaction);
+
+        Slice<Transaction> result = transactionService.getTransactionsByAccountId(1L, null, 1);
+
+        assertTrue(result.hasNext());
+        assertEquals(1, result.getNumberOfElements());
+        assertEquals(10L, result.getContent().get(0).getId());
+        verify(transactionRepository, never()).findTransactionKeysByAccountId(any(), any());
+    }
+
+    @Test
+    void getTransactionsByAccountIdCursor_pageAcrossMonths_boundsEntityFetchByPageDates() {
+        LocalDateTime newest = LocalDateTime.of(2025, 3, 2, 9, 0);
+        LocalDateTime oldest = LocalDateTime.of(2025, 1, 20, 17, 30);
+        TransactionEntity older = new TransactionEntity();
+        older.setId(9L);
+        when(accountRepository.existsById(1L)).thenReturn(true);
+        when(transactionRepository.findFirstTransactionKeysByAccountId(1L, Limit.of(3)))
+                .thenReturn(List.of(key(10L, newest), key(9L, oldest)));
+        when(transactionRepository.findAllWithEntriesByIds(List.of(10L, 9L), oldest, newest))
+                .thenReturn(List.of(older, transactionEntity));
+        when(transactionMapper.toDomain(transactionEntity)).thenReturn(savedTransaction);
+        when(transactionMapper.toDomain(older))
+                .thenReturn(new Transaction(9L, "Older sale", oldest, savedTransaction.getEntries(), oldest));
+
+        Slice<Transaction> result = transactionService.getTransactionsByAccountId(1L, null, 2);
+
+        assertEquals(List.of(10L, 9L), result.getContent().stream().map(Transaction::getId).toList());
+    }
+
+    @Test
+    void getTransactionsByAccountIdCursor_afterCursor_lastPage() {
+        LocalDateTime date = LocalDateTime.of(2025, 1, 15, 10, 0);
+        TransactionCursor cursor = TransactionCursor.of(date, 11L);
+        when(accountRepository.existsById(1L)).thenReturn(true);
+        when(transactionRepository.findTransactionKeysByAccountIdBefore(1L, date, 11L, Limit.of(21)))
+                .thenReturn(List.of(key(10L, date.minusDays(1))));
+        when(transactionRepository.findAllWithEntriesByIds(List.of(10L), date.minusDays(1), date.minusDays(1)))
+                .thenReturn(List.of(transactionEntity));
+        when(transactionMapper.toDomain(transactionEntity)).thenReturn(savedTransaction);
+
+        Slice<Transaction> result = transactionService.getTransactionsByAccountId(1L, cursor, 20);
+
+        assertFalse(result.hasNext());
+        assertEquals(1, result.getNumberOfElements());
+    }
+
+    @Test
+    void getTransactionsByAccountIdCursor_empty_skipsEntityFetch() {
+        when(accountRepository.existsById(1L)).thenReturn(true);
+        when(transactionRepository.findFirstTransactionKeysByAccountId(1L, Limit.of(21))).thenReturn(List.of());
+
+        Slice<Transaction> result = transactionService.getTransactionsByAccountId(1L, null, 20);
+
+        assertFalse(result.hasNext());
+        assertTrue(result.getContent().isEmpty());
+        verify(transactionRepository, never()).findAllWithEntriesByIds(any(), any(), any());
+    }
+
+    private void stubAccounts() {
+        when(accountRepository.findAllById(any())).thenReturn(List.of(assetAccount, revenueAccount));
+        when(accountRepository.getReferenceById(1L)).thenReturn(assetAccount);
+        when(accountRepository.getReferenceById(2L)).thenReturn(revenueAccount);
+    }
+
+    private void stubBalanceUpdates() {
+        when(balanceRepository.applyDelta(any(), anyInt(), any(), any())).thenAnswer(invocation ->
+                updatedBalance(invocation.getArgument(0), invocation.getArgument(2), invocation.getArgument(3)));
+    }
+
+    private static TransactionKey key(Long transactionId, LocalDateTime transactionDate) {
+        return new TransactionKey() {
+            @Override
+            public Long getTransactionId() {
+                return transactionId;
+            }
+
+            @Override
+            public LocalDateTime getTransactionDate() {
+                return transactionDate;
+            }
+        };
+    }
+
+    private UpdatedBalance updatedBalance(Long accountId, BigDecimal debits, BigDecimal credits) {
+        return updatedBalance(accountId, debits, credits, 1);
+    }
+
+    private UpdatedBalance updatedBalance(Long accountId, BigDecimal debits, BigDecimal credits, int balanceShards) {
+        return new UpdatedBalance() {
+            @Override
+            public Long getAccountId() {
+                return accountId;
+            }
+
+            @Override
+            public BigDecimal getDebitTotal() {
+                return debits;
+            }
+
+            @Override
+            public BigDecimal getCreditTotal() {
+                return credits;
+            }
+
+            @Override
+            public Long getVersion() {
+                return 1L;
+            }
+
+            @Override
+            public Integer getBalanceShards() {
+                return balanceShards;
+            }
+        };
     }
 }